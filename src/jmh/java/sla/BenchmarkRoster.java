@@ -0,0 +1,53 @@
+package sla;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Scratch system with the predefined content and a roster of generated students, shared
+ * by the benchmarks that take a roster size.
+ */
+final class BenchmarkRoster {
+    static final int FIRST_ID = 100_000;
+    private static final String[] LEARNING_STYLES = { "text", "visual", "auditory" };
+
+    private BenchmarkRoster() {
+    }
+
+    /**
+     * Build a system in dir (wiped first) holding size students, imported like an intake file.
+     */
+    static SmartTutoringSystem build(File dir, int size) throws IOException {
+        deleteTree(dir);
+        SmartTutoringSystem app = new SmartTutoringSystem(dir.getPath());
+        PrintStream console = System.out;
+        try {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            app.loadOrInitData();
+            File intake = new File(dir, "intake.csv");
+            Random rnd = new Random(size);
+            List<String> rows = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                rows.add((FIRST_ID + i) + ",Student " + i + ",student" + i + "@school.edu," + LEARNING_STYLES[rnd.nextInt(3)]);
+            }
+            CSVUtils.writeLines(intake, rows);
+            app.importStudents(intake, new File(dir, "intake.rejects.csv"));
+        } finally {
+            System.setOut(console);
+        }
+        return app;
+    }
+
+    static void deleteTree(File f) {
+        File[] children = f.listFiles();
+        if (children != null) {
+            for (File c : children) deleteTree(c);
+        }
+        f.delete();
+    }
+}
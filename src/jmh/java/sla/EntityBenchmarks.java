@@ -0,0 +1,156 @@
+package sla;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-call costs that do not depend on the roster size: fromCSV/toCSV of every entity,
+ * takeAssessment, and grading an assessment. Grading runs against a private
+ * ItemStatistics and skips the GRADE/QUIZ metrics, so a benchmark never shows up in the
+ * item analysis, the term report or the JMX counters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EntityBenchmarks {
+    private static final String[] LEARNING_STYLES = { "text", "visual", "auditory" };
+    private static final int MASK = 1023;
+
+    private String[] studentLines;
+    private StudentTutored[] students;
+    private TutorTutoring tutor;
+    private String tutorLine;
+    private LessonTutoring lesson;
+    private String lessonLine;
+    private AssessmentTutoring assessment;
+    private String assessmentLine;
+    private int[][] choices;
+    private String[] quizInputs;
+    private ItemStatistics stats;
+    private PrintStream discard;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        studentLines = new String[MASK + 1];
+        students = new StudentTutored[MASK + 1];
+        for (int i = 0; i <= MASK; i++) {
+            students[i] = sampleStudent(i, rnd);
+            studentLines[i] = students[i].toCSV();
+        }
+        tutor = new TutorTutoring(1001, "Dr. Alice Smith", "alice@example.com", "OOP", "PhD Computer Science", "Doctorate");
+        tutorLine = tutor.toCSV();
+        lesson = new LessonTutoring(1, "OOP", "uncompleted", "OOP - Module 1", "Classes, objects and encapsulation. ".repeat(20));
+        lessonLine = lesson.toCSV();
+        assessment = new AssessmentTutoring(101, "OOP", "uncompleted");
+        assessmentLine = assessment.toCSV();
+
+        int questions = assessment.getAnswerKey().getQuestionCount();
+        choices = new int[MASK + 1][questions];
+        quizInputs = new String[MASK + 1];
+        for (int i = 0; i <= MASK; i++) {
+            StringBuilder script = new StringBuilder();
+            for (int q = 0; q < questions; q++) {
+                choices[i][q] = 1 + rnd.nextInt(4);
+                script.append(choices[i][q]).append('\n');
+            }
+            quizInputs[i] = script.toString();
+        }
+        stats = new ItemStatistics(questions);
+        discard = new PrintStream(OutputStream.nullOutputStream());
+    }
+
+    private int next() {
+        return next++ & MASK;
+    }
+
+    @Benchmark
+    public StudentTutored studentFromCSV() {
+        return StudentTutored.fromCSV(studentLines[next()]);
+    }
+
+    @Benchmark
+    public String studentToCSV() {
+        return students[next()].toCSV();
+    }
+
+    @Benchmark
+    public TutorTutoring tutorFromCSV() {
+        return TutorTutoring.fromCSV(tutorLine);
+    }
+
+    @Benchmark
+    public String tutorToCSV() {
+        return tutor.toCSV();
+    }
+
+    @Benchmark
+    public LessonTutoring lessonFromCSV() {
+        return LessonTutoring.fromCSV(lessonLine);
+    }
+
+    @Benchmark
+    public String lessonToCSV() {
+        return lesson.toCSV();
+    }
+
+    @Benchmark
+    public AssessmentTutoring assessmentFromCSV() {
+        return AssessmentTutoring.fromCSV(assessmentLine);
+    }
+
+    @Benchmark
+    public String assessmentToCSV() {
+        return assessment.toCSV();
+    }
+
+    @Benchmark
+    public int takeAssessment() {
+        int i = next();
+        students[i].takeAssessment(i % 11);
+        return students[i].getAssessmentsTaken();
+    }
+
+    @Benchmark
+    public QuizAttempt grade() {
+        QuizAttempt attempt = assessment.score(choices[next()]);
+        stats.record(assessment.getAnswerKey(), attempt);
+        return attempt;
+    }
+
+    // one full quiz from scripted input, output discarded (administerQuiz minus its metrics and event)
+    @Benchmark
+    public QuizAttempt administerQuiz() {
+        Scanner scanner = new Scanner(quizInputs[next()]);
+        QuizAttempt attempt = assessment.score(assessment.readChoices(scanner, discard, Charset.defaultCharset()));
+        discard.println("\nYour score: " + attempt.getScore() + " out of " + assessment.getAnswerKey().getQuestionCount());
+        stats.record(assessment.getAnswerKey(), attempt);
+        return attempt;
+    }
+
+    private static StudentTutored sampleStudent(int i, Random rnd) {
+        StudentTutored s = new StudentTutored(100_000 + i, "Student " + i, "student" + i + "@school.edu", LEARNING_STYLES[rnd.nextInt(3)]);
+        for (int k = rnd.nextInt(5); k > 0; k--) s.takeAssessment(rnd.nextInt(11));
+        if (rnd.nextBoolean()) s.setAssignedTutorID(1001 + rnd.nextInt(5));
+        return s;
+    }
+}
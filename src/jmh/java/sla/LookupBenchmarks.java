@@ -0,0 +1,95 @@
+package sla;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ID and subject lookups against a roster of the given size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class LookupBenchmarks {
+    private static final String[] SUBJECTS = { "INTROWEB", "OOP", "DSAL", "ICYBER", "OPSYSFUN" };
+    private static final int MASK = 4095;
+
+    @Param({ "1000", "100000", "1000000" })
+    public int size;
+
+    private final File dir = new File("bench-data", "lookup");
+    private SmartTutoringSystem app;
+    private int[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        app = BenchmarkRoster.build(dir, size);
+        ids = new int[MASK + 1];
+        Random rnd = new Random(7);
+        for (int i = 0; i < ids.length; i++) ids[i] = BenchmarkRoster.FIRST_ID + rnd.nextInt(size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        app.shutdown();
+        BenchmarkRoster.deleteTree(dir);
+    }
+
+    private int next() {
+        return next++ & MASK;
+    }
+
+    @Benchmark
+    public StudentTutored findStudentById() {
+        return app.findStudentById(ids[next()]);
+    }
+
+    @Benchmark
+    public TutorTutoring findTutorById() {
+        return app.findTutorById(1001 + next() % 5);
+    }
+
+    @Benchmark
+    public LessonTutoring findLessonById() {
+        return app.findLessonById(2001 + next() % 10);
+    }
+
+    @Benchmark
+    public AssessmentTutoring findAssessmentById() {
+        return app.findAssessmentById(3001 + next() % 5);
+    }
+
+    @Benchmark
+    public TutorTutoring findTutorBySubject() {
+        return app.findTutorBySubject(SUBJECTS[next() % 5]);
+    }
+
+    @Benchmark
+    public List<LessonTutoring> findLessonsBySubject() {
+        return app.findLessonsBySubject(SUBJECTS[next() % 5]);
+    }
+
+    @Benchmark
+    public AssessmentTutoring findAssessmentBySubject() {
+        return app.findAssessmentBySubject(SUBJECTS[next() % 5]);
+    }
+}
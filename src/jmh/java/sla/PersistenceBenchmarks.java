@@ -0,0 +1,58 @@
+package sla;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Full snapshot save and load of a roster of the given size. Each call is slow at the
+ * large sizes, so these run fewer, longer iterations than the per-call benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class PersistenceBenchmarks {
+    @Param({ "1000", "100000", "1000000" })
+    public int size;
+
+    private final File dir = new File("bench-data", "persistence");
+    private SmartTutoringSystem app;
+
+    @Setup
+    public void setUp() throws IOException {
+        app = BenchmarkRoster.build(dir, size);
+        app.saveToCSV();
+    }
+
+    @TearDown
+    public void tearDown() {
+        app.shutdown();
+        BenchmarkRoster.deleteTree(dir);
+    }
+
+    @Benchmark
+    public boolean saveToCSV() {
+        return app.saveToCSV();
+    }
+
+    @Benchmark
+    public boolean loadFromCSV() {
+        return app.loadFromCSV();
+    }
+}
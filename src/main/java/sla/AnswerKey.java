@@ -0,0 +1,93 @@
+package sla;
+
+/**
+ * Answer key for an assessment packed 2 bits per question (options 1..4 stored as 0..3).
+ * A submission packed the same way is graded with a few bitwise operations: XOR it
+ * with the key, fold each 2-bit lane down to one bit, and count the lanes that differ.
+ * Holds up to 32 questions (one long).
+ */
+public class AnswerKey {
+    public static final int MAX_QUESTIONS = 32;
+    private static final long LOW_BITS = 0x5555555555555555L;
+
+    private final int questionCount;
+    private final long key;
+    private final long laneMask;   // low bit of every lane in use
+    private final long moduleMask; // low bit of every lane whose question maps to a module
+    private final int[] moduleIds;
+
+    /**
+     * @param correctOneBased correct option (1..4) per question
+     * @param moduleIds lesson/module id per question (or -1 if none)
+     */
+    public AnswerKey(int[] correctOneBased, int[] moduleIds) {
+        if (correctOneBased.length > MAX_QUESTIONS) throw new IllegalArgumentException("At most " + MAX_QUESTIONS + " questions");
+        if (moduleIds.length != correctOneBased.length) throw new IllegalArgumentException("One module id per question");
+        this.questionCount = correctOneBased.length;
+        this.key = pack(correctOneBased);
+        this.laneMask = questionCount == MAX_QUESTIONS ? LOW_BITS : LOW_BITS & ((1L << (2 * questionCount)) - 1);
+        this.moduleIds = moduleIds.clone();
+        long mm = 0;
+        for (int i = 0; i < questionCount; i++) {
+            if (moduleIds[i] != -1) mm |= 1L << (2 * i);
+        }
+        this.moduleMask = mm;
+    }
+
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    /**
+     * Pack choices (1..4 per question) into 2-bit lanes.
+     */
+    public static long pack(int[] choicesOneBased) {
+        if (choicesOneBased.length > MAX_QUESTIONS) throw new IllegalArgumentException("At most " + MAX_QUESTIONS + " questions");
+        long packed = 0;
+        for (int i = 0; i < choicesOneBased.length; i++) {
+            int c = choicesOneBased[i];
+            if (c < 1 || c > 4) throw new IllegalArgumentException("Choice must be 1..4 (question " + (i + 1) + ")");
+            packed |= (long) (c - 1) << (2 * i);
+        }
+        return packed;
+    }
+
+    /**
+     * Pack a run of digits '1'..'4' (one per question), e.g. "2413124133".
+     */
+    public static long pack(CharSequence digits) {
+        if (digits.length() > MAX_QUESTIONS) throw new IllegalArgumentException("At most " + MAX_QUESTIONS + " questions");
+        long packed = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            int c = digits.charAt(i) - '1';
+            if (c < 0 || c > 3) throw new IllegalArgumentException("Choice must be 1..4 (question " + (i + 1) + ")");
+            packed |= (long) c << (2 * i);
+        }
+        return packed;
+    }
+
+    /**
+     * Low bit of every lane answered incorrectly.
+     */
+    public long wrongLanes(long packed) {
+        long x = packed ^ key;
+        return (x | (x >>> 1)) & laneMask;
+    }
+
+    public int score(long packed) {
+        return questionCount - Long.bitCount(wrongLanes(packed));
+    }
+
+    /**
+     * Module ids of the questions answered incorrectly, in question order
+     * (questions without a module are left out).
+     */
+    public int[] wrongModuleIds(long packed) {
+        long w = wrongLanes(packed) & moduleMask;
+        int[] out = new int[Long.bitCount(w)];
+        for (int n = 0; w != 0; w &= w - 1) {
+            out[n++] = moduleIds[Long.numberOfTrailingZeros(w) >>> 1];
+        }
+        return out;
+    }
+}
@@ -0,0 +1,333 @@
+package sla;
+
+/**
+ * Assessment with 10 MCQ questions. Each assessment holds exactly 10 questions,
+ * with 4 options each and an integer correct index (1..4).
+ *
+ * Extended: each question can map to a lesson/module id. When the student answers
+ * incorrectly, the corresponding module id is recorded so the system can recommend
+ * which lesson(s) to review.
+ *
+ * Assessments read from CSV keep the serialized questions field as raw text; it is
+ * decoded (without regex) the first time the quiz is administered or edited.
+ */
+public class AssessmentTutoring extends Content {
+    private static final String DEFAULT_QUESTION = "Question not set";
+    private static final String[] DEFAULT_OPTIONS = { "Option 1", "Option 2", "Option 3", "Option 4" };
+    private static final String QUESTION_SEP = "||";
+    private static final String ITEM_SEP = "~~";
+    public static final int PASS_SCORE = 6; // out of 10
+
+    private int maxQuestions = 10;
+    private volatile String[] questions;  // length 10; null until decoded from rawQuestions
+    private String[][] options;           // [10][4]
+    private int[] correctOptionIndex;     // [10] values 1..4
+    private int[] questionModuleId;       // [10] lesson/module id mapping (or -1 if unknown)
+    private volatile String rawQuestions; // serialized questions not decoded yet (null once decoded)
+    private volatile AnswerKey answerKey; // built on first grading, dropped when a question changes
+    // question blocks (text + options) pre-rendered as bytes per output charset; dropped when a question changes
+    private final java.util.Map<java.nio.charset.Charset, byte[][]> renderedQuestions = new java.util.concurrent.ConcurrentHashMap<>();
+    private volatile QuizAttempt lastAttempt; // most recently completed attempt (display only)
+    private final ItemStatistics itemStatistics = new ItemStatistics(maxQuestions);
+
+    public AssessmentTutoring(int contentIdentifierID, String subjectContent, String statusContent) {
+        super(contentIdentifierID, subjectContent, statusContent);
+        initQuestions();
+    }
+
+    // lazily decoded: questions stay as raw text until first needed
+    private AssessmentTutoring(int contentIdentifierID, String subjectContent, String statusContent, String rawQuestions) {
+        super(contentIdentifierID, subjectContent, statusContent);
+        this.rawQuestions = rawQuestions;
+    }
+
+    private void initQuestions() {
+        String[] q = new String[maxQuestions];
+        options = new String[maxQuestions][];
+        correctOptionIndex = new int[maxQuestions];
+        questionModuleId = new int[maxQuestions];
+        // default placeholder (shared strings)
+        for (int i = 0; i < maxQuestions; i++) {
+            q[i] = DEFAULT_QUESTION;
+            options[i] = DEFAULT_OPTIONS.clone();
+            correctOptionIndex[i] = 1;
+            questionModuleId[i] = -1;
+        }
+        questions = q;
+    }
+
+    private void ensureQuestions() {
+        if (questions == null) decodeQuestions();
+    }
+
+    /**
+     * Decode rawQuestions (q~~opt1~~opt2~~opt3~~opt4~~correct[~~moduleId] joined by ||).
+     * Malformed questions keep the placeholder instead of failing the whole assessment.
+     */
+    private synchronized void decodeQuestions() {
+        if (questions != null) return;
+        String raw = rawQuestions;
+        String[] q = new String[maxQuestions];
+        String[][] opts = new String[maxQuestions][];
+        int[] correct = new int[maxQuestions];
+        int[] modules = new int[maxQuestions];
+        for (int i = 0; i < maxQuestions; i++) {
+            q[i] = DEFAULT_QUESTION;
+            opts[i] = DEFAULT_OPTIONS.clone();
+            correct[i] = 1;
+            modules[i] = -1;
+        }
+        String[] items = new String[7];
+        int start = 0;
+        int len = raw == null ? 0 : raw.length();
+        for (int i = 0; i < maxQuestions && start < len; i++) {
+            int end = raw.indexOf(QUESTION_SEP, start);
+            if (end < 0) end = len;
+            int n = splitItems(raw, start, end, items);
+            if (n >= 6) {
+                try {
+                    int c = Integer.parseInt(items[5]);
+                    int m = n >= 7 ? Integer.parseInt(items[6]) : -1;
+                    if (c >= 1 && c <= 4) {
+                        q[i] = items[0];
+                        opts[i] = new String[] { items[1], items[2], items[3], items[4] };
+                        correct[i] = c;
+                        modules[i] = m;
+                    }
+                } catch (NumberFormatException ignored) {
+                    // keep placeholder
+                }
+            }
+            start = end + QUESTION_SEP.length();
+        }
+        options = opts;
+        correctOptionIndex = correct;
+        questionModuleId = modules;
+        questions = q;
+        rawQuestions = null;
+    }
+
+    // split raw[start, end) on "~~" into at most items.length items; trailing empty items are dropped
+    private static int splitItems(String raw, int start, int end, String[] items) {
+        int n = 0;
+        int s = start;
+        while (n < items.length) {
+            int e = raw.indexOf(ITEM_SEP, s);
+            if (e < 0 || e > end) e = end;
+            items[n++] = raw.substring(s, e);
+            if (e == end) break;
+            s = e + ITEM_SEP.length();
+        }
+        while (n > 0 && items[n - 1].isEmpty()) n--;
+        return n;
+    }
+
+    public int getMaxQuestions() { return maxQuestions; }
+
+    public ItemStatistics getItemStatistics() { return itemStatistics; }
+
+    public int getCorrectOption(int idx) {
+        ensureQuestions();
+        return correctOptionIndex[idx];
+    }
+
+    public int getLastScore() {
+        QuizAttempt a = lastAttempt;
+        return a == null ? -1 : a.getScore();
+    }
+
+    public java.util.List<Integer> getLastWrongModuleIds() {
+        QuizAttempt a = lastAttempt;
+        return a == null ? new java.util.ArrayList<>() : a.getWrongModuleIds();
+    }
+
+    /**
+     * Set a question including its module mapping.
+     * @param idx question index (0..9)
+     * @param q question text
+     * @param opts 4 options (length 4)
+     * @param correctOneBased correct option 1..4
+     * @param moduleId lesson/module id related to the question (or -1 if none)
+     */
+    public void setQuestionAt(int idx, String q, String[] opts, int correctOneBased, int moduleId) {
+        if (idx < 0 || idx >= maxQuestions) throw new IllegalArgumentException("Invalid question index");
+        if (opts == null || opts.length != 4) throw new IllegalArgumentException("Options must be length 4");
+        ensureQuestions();
+        questions[idx] = q;
+        for (int j = 0; j < 4; j++) options[idx][j] = opts[j];
+        if (correctOneBased < 1 || correctOneBased > 4) throw new IllegalArgumentException("correct index must be 1..4");
+        correctOptionIndex[idx] = correctOneBased;
+        questionModuleId[idx] = moduleId;
+        answerKey = null;
+        renderedQuestions.clear();
+    }
+
+    // "\nQn. question" plus the four option lines, encoded once per charset
+    private byte[][] renderQuestions(java.nio.charset.Charset cs) {
+        ensureQuestions();
+        String nl = System.lineSeparator();
+        byte[][] blocks = new byte[maxQuestions][];
+        StringBuilder sb = new StringBuilder(256);
+        for (int i = 0; i < maxQuestions; i++) {
+            sb.setLength(0);
+            sb.append(nl).append('Q').append(i + 1).append(". ").append(questions[i]).append(nl);
+            for (int j = 0; j < 4; j++) sb.append("  ").append(j + 1).append(") ").append(options[i][j]).append(nl);
+            blocks[i] = sb.toString().getBytes(cs);
+        }
+        return blocks;
+    }
+
+    /**
+     * Bit-packed answer key used for grading (see BatchGrader for bulk grading).
+     */
+    public AnswerKey getAnswerKey() {
+        AnswerKey k = answerKey;
+        if (k == null) {
+            ensureQuestions();
+            k = new AnswerKey(correctOptionIndex, questionModuleId);
+            answerKey = k;
+        }
+        return k;
+    }
+
+    @Override
+    public void loadContent() {
+        System.out.println("Loading assessment for " + getSubjectContent() + " (Assessment ID: " + getContentIdentifierID() + ")");
+    }
+
+    /**
+     * Present the quiz in console and auto-grade. Returns correctCount (0..10).
+     */
+    public int administerQuiz(java.util.Scanner scanner) {
+        return administerQuiz(scanner, System.out).getScore();
+    }
+
+    /**
+     * Present the quiz on the given streams and auto-grade it. Input is validated.
+     * The returned attempt carries the score and the wrong module ids for recommendations.
+     */
+    public QuizAttempt administerQuiz(java.util.Scanner scanner, java.io.PrintStream out) {
+        return administerQuiz(scanner, out, java.nio.charset.Charset.defaultCharset());
+    }
+
+    /**
+     * As above, writing the cached pre-rendered question blocks; cs must be the charset out encodes with.
+     */
+    public QuizAttempt administerQuiz(java.util.Scanner scanner, java.io.PrintStream out, java.nio.charset.Charset cs) {
+        QuizSessionEvent event = QuizSessionEvent.start();
+        long start = System.nanoTime();
+        QuizAttempt attempt = null;
+        try {
+            attempt = grade(readChoices(scanner, out, cs));
+            out.println("\nYour score: " + attempt.getScore() + " out of " + maxQuestions);
+            return attempt;
+        } finally {
+            Metrics.QUIZ.record(start, attempt != null);
+            event.finish(this, attempt);
+        }
+    }
+
+    /**
+     * Show each question and read a valid choice (1..4) for it.
+     */
+    int[] readChoices(java.util.Scanner scanner, java.io.PrintStream out, java.nio.charset.Charset cs) {
+        byte[][] blocks = renderedQuestions.computeIfAbsent(cs, this::renderQuestions);
+        int[] choices = new int[maxQuestions];
+        out.println("\n--- Assessment: " + getSubjectContent() + " ---");
+        for (int i = 0; i < maxQuestions; i++) {
+            out.write(blocks[i], 0, blocks[i].length);
+            int choice = -1;
+            while (true) {
+                out.print("Your answer (1-4): ");
+                out.flush(); // one flush per question screen, before waiting for input
+                String line = scanner.nextLine().trim();
+                try {
+                    choice = Integer.parseInt(line);
+                    if (choice >= 1 && choice <= 4) break;
+                } catch (NumberFormatException ignored) {}
+                out.println("Invalid input, enter a number between 1 and 4.");
+            }
+            choices[i] = choice;
+        }
+        return choices;
+    }
+
+    /**
+     * Grade one set of choices (1..4 per question) without prompting. The attempt is not
+     * counted in the item statistics; SmartTutoringSystem.recordItemStatistics does that
+     * for attempts taken by users, so it can persist them.
+     */
+    public QuizAttempt grade(int[] choices) {
+        long start = System.nanoTime();
+        QuizAttempt attempt = score(choices);
+        Metrics.GRADE.record(start);
+        return attempt;
+    }
+
+    /**
+     * grade() without the GRADE metric, for callers (the JMH benchmarks) that must not count as traffic.
+     */
+    QuizAttempt score(int[] choices) {
+        if (choices.length != maxQuestions) throw new IllegalArgumentException("Expected " + maxQuestions + " answers");
+        AnswerKey key = getAnswerKey();
+        QuizAttempt attempt = new QuizAttempt(getContentIdentifierID(), key, AnswerKey.pack(choices));
+        lastAttempt = attempt;
+        return attempt;
+    }
+
+    /**
+     * Evaluate (simple pass/fail). Passing threshold is 6/10 (60%).
+     */
+    public String evaluatePerformance(int score) {
+        if (score >= PASS_SCORE) return "Passed";
+        return "Needs Improvement";
+    }
+
+    public String giveFeedback(int score) {
+        if (score >= 9) return "Outstanding. You showed mastery of this module.";
+        if (score >= 7) return "Good understanding, practice a few more problems to perfect it.";
+        if (score >= 6) return "Satisfactory. Review specific topics you missed.";
+        return "Review lessons and ask your tutor for help.";
+    }
+
+    // Serialize questions to a single CSV-friendly field (commas replaced earlier)
+    // Format: q1~~opt1~~opt2~~opt3~~opt4~~correct~~moduleId||q2~~...
+    public String toCSV() {
+        String raw = rawQuestions;
+        if (raw != null && questions == null) {
+            // never decoded: write the serialized field back unchanged
+            return getContentIdentifierID() + "," + getSubjectContent() + "," + getStatusContent() + "," + raw;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < maxQuestions; i++) {
+            if (i > 0) sb.append("||");
+            sb.append(questions[i].replace(",", ";")).append("~~");
+            for (int j = 0; j < 4; j++) {
+                sb.append(options[i][j].replace(",", ";"));
+                sb.append("~~");
+            }
+            sb.append(correctOptionIndex[i]);
+            sb.append("~~");
+            sb.append(questionModuleId[i]);
+        }
+        // id,subject,status,questionsSerialized
+        return getContentIdentifierID() + "," + getSubjectContent() + "," + getStatusContent() + "," + sb.toString();
+    }
+
+    // Deserialize (the long questions field is kept raw and decoded on first use)
+    public static AssessmentTutoring fromCSV(String line) {
+        return fromCSV(new FieldCursor(line));
+    }
+
+    public static AssessmentTutoring fromCSV(FieldCursor c) {
+        try {
+            int id = c.nextInt();
+            String subject = c.nextString();
+            String status = c.nextString();
+            String qSerialized = c.rest();
+            return new AssessmentTutoring(id, subject, status, qSerialized);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
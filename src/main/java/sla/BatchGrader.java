@@ -0,0 +1,77 @@
+package sla;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Grades archived submissions in bulk against an assessment's answer key, without
+ * the console quiz loop. Input rows are "submissionId,answers" where answers holds one
+ * digit 1..4 per question (e.g. "2413124133"); output rows are
+ * "submissionId,score,wrongModuleIds" with the module ids separated by ';'.
+ * Rows are graded while they are parsed, so large files are graded in parallel chunks,
+ * and each chunk's results are written out before later chunks are parsed.
+ */
+public class BatchGrader {
+
+    /**
+     * Grade every row of in and write the results to out (replaced atomically when done).
+     * @return number of submissions graded (malformed rows are skipped and reported)
+     */
+    public static long gradeFile(AnswerKey key, File in, File out) throws IOException {
+        LongAdder rejected = new LongAdder();
+        long[] graded = new long[1];
+        File tmp = new File(out.getParentFile(), out.getName() + ".tmp");
+        boolean moved = false;
+        try {
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(tmp))) {
+                CSVUtils.forEachChunk(in, c -> {
+                    try {
+                        int id = c.nextInt();
+                        String answers = c.rest();
+                        if (answers.length() != key.getQuestionCount()) throw new IllegalArgumentException("Wrong answer count");
+                        return gradeRow(key, id, AnswerKey.pack(answers));
+                    } catch (Exception e) {
+                        rejected.increment();
+                        return null;
+                    }
+                }, rows -> {
+                    try {
+                        for (String row : rows) {
+                            bw.write(row);
+                            bw.newLine();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    graded[0] += rows.size();
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            Files.move(tmp.toPath(), out.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            moved = true;
+        } finally {
+            // a failed run leaves neither partial results nor the temp file behind
+            if (!moved) tmp.delete();
+        }
+        if (rejected.sum() > 0) System.err.println("Skipped " + rejected.sum() + " malformed submission row(s) in " + in.getName());
+        return graded[0];
+    }
+
+    static String gradeRow(AnswerKey key, int submissionId, long packed) {
+        StringBuilder sb = new StringBuilder(32);
+        sb.append(submissionId).append(',').append(key.score(packed)).append(',');
+        int[] wrong = key.wrongModuleIds(packed);
+        for (int i = 0; i < wrong.length; i++) {
+            if (i > 0) sb.append(';');
+            sb.append(wrong[i]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,193 @@
+package sla;
+
+import java.io.*;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Small CSV utilities for simple read/write.
+ * Note: This is a simple CSV helper. Content fields are pre-sanitized by replacing commas with semicolons.
+ */
+public class CSVUtils {
+
+    // files above this size are parsed in parallel, line-aligned chunks
+    private static final long PARALLEL_THRESHOLD = 8L * 1024 * 1024;
+    private static final long CHUNK_SIZE = 4L * 1024 * 1024;
+
+    /**
+     * Write lines to a temporary file and move it over the target, so a crash
+     * mid-write never leaves a half-written CSV behind.
+     */
+    public static boolean writeLines(File file, List<String> lines) {
+        File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try {
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(tmp))) {
+                for (String line : lines) {
+                    bw.write(line);
+                    bw.newLine();
+                }
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error writing CSV file " + file.getAbsolutePath() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    public static List<String> readLines(File file) throws IOException {
+        ArrayList<String> out = new ArrayList<>();
+        if (!file.exists()) return out;
+        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
+            String l;
+            while ((l = br.readLine()) != null) {
+                if (l.trim().isEmpty()) continue;
+                out.add(l);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Parse every non-blank line of a file straight into records, skipping lines the
+     * parser rejects (returns null). The parser reads fields through a reused
+     * FieldCursor over the read buffer, so no per-line String is created. Small files
+     * are streamed; large files are split into line-aligned chunks parsed on the
+     * common fork-join pool. Records are returned in file order either way.
+     */
+    public static <T> List<T> readRecords(File file, Function<FieldCursor, T> parser) throws IOException {
+        List<T> out = new ArrayList<>();
+        forEachChunk(file, parser, out::addAll);
+        return out;
+    }
+
+    /**
+     * Like readRecords, but hands the records to sink one chunk at a time, in file order,
+     * on the calling thread. Only a few chunks are parsed ahead of the sink, so memory
+     * stays bounded by the chunk size however large the file is.
+     */
+    public static <T> void forEachChunk(File file, Function<FieldCursor, T> parser, Consumer<List<T>> sink) throws IOException {
+        if (!file.exists()) return;
+        long size = file.length();
+        if (size < PARALLEL_THRESHOLD) {
+            sink.accept(streamRecords(file, parser));
+            return;
+        }
+
+        try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(ch, size, (int) ((size + CHUNK_SIZE - 1) / CHUNK_SIZE));
+            int window = ForkJoinPool.getCommonPoolParallelism() * 2;
+            ArrayDeque<Future<List<T>>> parts = new ArrayDeque<>();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                if (bounds[i] < bounds[i + 1]) {
+                    MappedByteBuffer region = ch.map(FileChannel.MapMode.READ_ONLY, bounds[i], bounds[i + 1] - bounds[i]);
+                    parts.add(ForkJoinPool.commonPool().submit(() -> parseChunk(region, parser)));
+                }
+                if (parts.size() >= window) sink.accept(join(parts.poll(), file));
+            }
+            while (!parts.isEmpty()) sink.accept(join(parts.poll(), file));
+        }
+    }
+
+    private static <T> List<T> join(Future<List<T>> part, File file) throws IOException {
+        try {
+            return part.get();
+        } catch (Exception e) {
+            throw new IOException("Failed parsing " + file.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static <T> List<T> streamRecords(File file, Function<FieldCursor, T> parser) throws IOException {
+        ArrayList<T> out = new ArrayList<>();
+        FieldCursor cursor = new FieldCursor();
+        char[] buf = new char[64 * 1024];
+        int len = 0;
+        try (Reader r = new FileReader(file)) {
+            int n;
+            while ((n = r.read(buf, len, buf.length - len)) >= 0) {
+                len += n;
+                int consumed = parseLines(buf, 0, len, false, cursor, parser, out);
+                // keep the partial last line; grow the buffer if one line fills it
+                System.arraycopy(buf, consumed, buf, 0, len - consumed);
+                len -= consumed;
+                if (len == buf.length) buf = java.util.Arrays.copyOf(buf, buf.length * 2);
+            }
+            parseLines(buf, 0, len, true, cursor, parser, out);
+        }
+        return out;
+    }
+
+    /**
+     * Parse complete lines in buf[from, to). The trailing unterminated line is parsed only
+     * when last is true. Returns the index just past the last consumed line.
+     */
+    private static <T> int parseLines(char[] buf, int from, int to, boolean last, FieldCursor cursor,
+                                      Function<FieldCursor, T> parser, List<T> out) {
+        int start = from;
+        for (int i = from; i < to; i++) {
+            if (buf[i] != '\n') continue;
+            parseLine(buf, start, i, cursor, parser, out);
+            start = i + 1;
+        }
+        if (last && start < to) {
+            parseLine(buf, start, to, cursor, parser, out);
+            start = to;
+        }
+        return start;
+    }
+
+    private static <T> void parseLine(char[] buf, int start, int end, FieldCursor cursor,
+                                      Function<FieldCursor, T> parser, List<T> out) {
+        if (end > start && buf[end - 1] == '\r') end--;
+        cursor.reset(buf, start, end);
+        if (cursor.isBlank()) return;
+        T rec = parser.apply(cursor);
+        if (rec != null) out.add(rec);
+    }
+
+    // chunk start offsets moved forward to just past the next newline; last entry is the file size
+    private static long[] chunkBounds(FileChannel ch, long size, int chunks) throws IOException {
+        long[] bounds = new long[chunks + 1];
+        bounds[chunks] = size;
+        java.nio.ByteBuffer probe = java.nio.ByteBuffer.allocate(4096);
+        for (int i = 1; i < chunks; i++) {
+            long pos = Math.max(size * i / chunks, bounds[i - 1]);
+            boolean found = false;
+            while (!found && pos < size) {
+                probe.clear();
+                int n = ch.read(probe, pos);
+                if (n <= 0) break;
+                for (int j = 0; j < n; j++) {
+                    if (probe.get(j) == '\n') {
+                        pos += j + 1;
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) pos += n;
+            }
+            bounds[i] = Math.min(pos, size);
+        }
+        return bounds;
+    }
+
+    private static <T> List<T> parseChunk(MappedByteBuffer region, Function<FieldCursor, T> parser) {
+        CharBuffer chars = Charset.defaultCharset().decode(region);
+        ArrayList<T> out = new ArrayList<>();
+        int from = chars.arrayOffset() + chars.position();
+        parseLines(chars.array(), from, from + chars.remaining(), true, new FieldCursor(), parser, out);
+        return out;
+    }
+}
@@ -0,0 +1,222 @@
+package sla;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Append-only change log (one text record per line) with group commit.
+ * Writers enqueue a record under a short lock, getting a sequence number, and later
+ * wait in awaitDurable() until that record is on disk; whichever writer finds no flush
+ * in progress writes and fsyncs everything pending, so concurrent writers share a
+ * single force() call. Enqueueing and waiting are separate so callers can enqueue
+ * while holding their own locks and wait after releasing them.
+ */
+public class ChangeJournal implements Closeable {
+    private final File file;
+    private final ReentrantLock lock = new ReentrantLock(); // not a monitor: virtual threads must not pin around I/O
+    private final Condition flushed = lock.newCondition();
+    private FileChannel channel;
+    private StringBuilder pending = new StringBuilder();
+    private long appendedSeq = 0;   // sequence number of the last appended record
+    private long durableSeq = 0;    // sequence number of the last record known to be on disk
+    private boolean flushing = false;
+    private long size;
+    private IOException broken;     // a failed write could not be rolled back; nothing more is written
+
+    public ChangeJournal(File file) throws IOException {
+        this.file = file;
+        this.channel = open(file);
+        this.size = channel.size();
+    }
+
+    private static FileChannel open(File file) throws IOException {
+        return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Bytes currently in the journal file (excluding records still being flushed).
+     */
+    public long size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queue one record; returns its sequence number for awaitDurable.
+     */
+    public long enqueue(String record) {
+        lock.lock();
+        try {
+            if (broken == null) pending.append(record).append('\n');
+            return ++appendedSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queue a record built under the journal's lock, so anything the record numbers
+     * (see ItemStatisticsTable) is numbered in journal order.
+     */
+    public long enqueue(Supplier<String> record) {
+        lock.lock();
+        try {
+            String r = record.get();
+            if (broken == null) pending.append(r).append('\n');
+            return ++appendedSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queue several records; returns the sequence number of the last one.
+     */
+    public long enqueueAll(List<String> records) {
+        lock.lock();
+        try {
+            if (broken == null) {
+                for (String r : records) pending.append(r).append('\n');
+            }
+            appendedSeq += records.size();
+            return appendedSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Block until every record up to seq is on disk. Throws if the write carrying any of
+     * them failed; a failed batch is never reported durable, it stays queued for a retry.
+     */
+    public void awaitDurable(long seq) throws IOException {
+        while (true) {
+            StringBuilder batch;
+            long target;
+            lock.lock();
+            try {
+                while (durableSeq < seq && flushing) {
+                    try {
+                        flushed.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted waiting for journal flush");
+                    }
+                }
+                if (durableSeq >= seq) return;
+                if (broken != null) throw new IOException("Journal unusable after a failed write", broken);
+                // become the leader for everything appended so far
+                flushing = true;
+                batch = pending;
+                pending = new StringBuilder();
+                target = appendedSeq;
+            } finally {
+                lock.unlock();
+            }
+            byte[] bytes = batch.toString().getBytes(Charset.defaultCharset());
+            IOException failure = null;
+            try {
+                ByteBuffer buf = ByteBuffer.wrap(bytes);
+                while (buf.hasRemaining()) channel.write(buf);
+                channel.force(false);
+            } catch (IOException e) {
+                failure = e;
+            }
+            lock.lock();
+            try {
+                flushing = false;
+                if (failure == null) {
+                    size += bytes.length;
+                    Metrics.BYTES_PERSISTED.add(bytes.length);
+                    durableSeq = target;
+                } else {
+                    // drop any partial write and put the batch back ahead of newer records;
+                    // waiters on it wake up and retry, or throw if the file cannot be rolled back
+                    try {
+                        channel.truncate(size);
+                    } catch (IOException e) {
+                        broken = e;
+                    }
+                    pending = batch.append(pending);
+                }
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (failure != null) throw failure;
+        }
+    }
+
+    /**
+     * Move everything written so far to the end of target and start an empty journal.
+     * Used for checkpoints: the caller snapshots state, then deletes target.
+     */
+    public void rotateInto(File target) throws IOException {
+        lock.lock();
+        try {
+            while (flushing) {
+                try {
+                    flushed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted waiting for journal flush");
+                }
+            }
+            // records still pending belong to writers that are about to flush them; write them now
+            if (pending.length() > 0 && broken == null) writePending();
+            channel.force(false);
+            try (FileChannel src = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                 FileChannel dst = open(target)) {
+                long pos = 0;
+                long len = src.size();
+                while (pos < len) pos += src.transferTo(pos, len - pos, dst);
+                dst.force(false);
+                Metrics.BYTES_PERSISTED.add(len);
+            }
+            channel.truncate(0);
+            channel.force(false);
+            size = 0;
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // caller holds lock with no flush in progress
+    private void writePending() throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(pending.toString().getBytes(Charset.defaultCharset()));
+        int len = buf.remaining();
+        while (buf.hasRemaining()) channel.write(buf);
+        pending = new StringBuilder();
+        durableSeq = appendedSeq;
+        size += len;
+        Metrics.BYTES_PERSISTED.add(len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (pending.length() > 0 && broken == null) writePending();
+            channel.force(false);
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
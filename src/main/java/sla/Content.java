@@ -0,0 +1,54 @@
+package sla;
+
+/**
+ * Superclass for content items.
+ */
+public abstract class Content {
+    private int contentIdentifierID;
+    private Symbol subjectContent;        // interned in SymbolTable.SUBJECTS
+    private ContentStatus statusContent;  // uncompleted, active, completed
+
+    public Content(int contentIdentifierID, String subjectContent, String statusContent) {
+        this.contentIdentifierID = contentIdentifierID;
+        this.subjectContent = SymbolTable.SUBJECTS.intern(subjectContent);
+        this.statusContent = ContentStatus.parse(statusContent);
+    }
+
+    public int getContentIdentifierID() {
+        return contentIdentifierID;
+    }
+
+    public String getSubjectContent() {
+        return subjectContent.getName();
+    }
+
+    public Symbol getSubject() {
+        return subjectContent;
+    }
+
+    public String getStatusContent() {
+        return statusContent.label();
+    }
+
+    public ContentStatus getStatus() {
+        return statusContent;
+    }
+
+    public void setStatusContent(String statusContent) {
+        this.statusContent = ContentStatus.parse(statusContent);
+    }
+
+    public void setStatus(ContentStatus status) {
+        this.statusContent = status;
+    }
+
+    public abstract void loadContent();
+
+    public void displaySummary() {
+        displaySummary(System.out);
+    }
+
+    public void displaySummary(java.io.PrintStream out) {
+        out.println("Content ID: " + contentIdentifierID + ", Subject: " + subjectContent + ", Status: " + statusContent);
+    }
+}
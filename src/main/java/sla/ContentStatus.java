@@ -0,0 +1,37 @@
+package sla;
+
+/**
+ * Lifecycle status of a content item. Persisted by its lower-case label.
+ */
+public enum ContentStatus {
+    UNCOMPLETED("uncompleted"),
+    ACTIVE("active"),
+    COMPLETED("completed");
+
+    private final String label;
+
+    ContentStatus(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Case-insensitive parse of a label; unknown or empty values map to UNCOMPLETED.
+     */
+    public static ContentStatus parse(String s) {
+        if (s != null) {
+            for (ContentStatus st : values()) {
+                if (st.label.equalsIgnoreCase(s.trim())) return st;
+            }
+        }
+        return UNCOMPLETED;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
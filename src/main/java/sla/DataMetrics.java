@@ -0,0 +1,43 @@
+package sla;
+
+/**
+ * Gauges over a running system. Reads are unlocked snapshots of the store sizes, so a
+ * scrape never waits on (or delays) a save or load in progress.
+ */
+public class DataMetrics implements DataMetricsMBean {
+    private final SmartTutoringSystem app;
+
+    public DataMetrics(SmartTutoringSystem app) {
+        this.app = app;
+    }
+
+    @Override
+    public int getStudentCount() {
+        return app.getStudentCount();
+    }
+
+    @Override
+    public int getTutorCount() {
+        return app.getTutorCount();
+    }
+
+    @Override
+    public int getLessonCount() {
+        return app.getLessonCount();
+    }
+
+    @Override
+    public int getAssessmentCount() {
+        return app.getAssessmentCount();
+    }
+
+    @Override
+    public long getJournalBytes() {
+        return app.getJournalBytes();
+    }
+
+    @Override
+    public long getBytesPersisted() {
+        return Metrics.BYTES_PERSISTED.sum();
+    }
+}
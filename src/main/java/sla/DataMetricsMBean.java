@@ -0,0 +1,18 @@
+package sla;
+
+/**
+ * JMX gauges for the data held by a running system (see DataMetrics).
+ */
+public interface DataMetricsMBean {
+    int getStudentCount();
+
+    int getTutorCount();
+
+    int getLessonCount();
+
+    int getAssessmentCount();
+
+    long getJournalBytes();
+
+    long getBytesPersisted();
+}
@@ -0,0 +1,96 @@
+package sla;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Growable storage for entities keyed by an int ID.
+ * Items live in fixed-size chunks, so growing only allocates a new chunk (the
+ * chunk directory is the only thing ever copied). Removal is O(1): the last
+ * item is swapped into the freed position, so positions are not stable.
+ */
+public class EntityStore<T> {
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final ToIntFunction<T> idOf;
+    private final IdIndex index = new IdIndex();
+    private Object[][] chunks = new Object[4][];
+    private int size = 0;
+
+    public EntityStore(ToIntFunction<T> idOf) {
+        this.idOf = idOf;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Item at position pos (0..size-1). Positions change when items are removed.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int pos) {
+        if (pos < 0 || pos >= size) throw new IndexOutOfBoundsException("Position " + pos + ", size " + size);
+        return (T) chunks[pos >>> CHUNK_BITS][pos & CHUNK_MASK];
+    }
+
+    public T findById(int id) {
+        int pos = index.get(id);
+        return pos == -1 ? null : get(pos);
+    }
+
+    public boolean containsId(int id) {
+        return index.contains(id);
+    }
+
+    /**
+     * Append an item.
+     * @return false if an item with the same ID is already stored
+     */
+    public boolean add(T item) {
+        if (!index.putIfAbsent(idOf.applyAsInt(item), size)) return false;
+        int c = size >>> CHUNK_BITS;
+        if (c == chunks.length) {
+            Object[][] grown = new Object[chunks.length << 1][];
+            System.arraycopy(chunks, 0, grown, 0, chunks.length);
+            chunks = grown;
+        }
+        if (chunks[c] == null) chunks[c] = new Object[CHUNK_SIZE];
+        chunks[c][size & CHUNK_MASK] = item;
+        size++;
+        return true;
+    }
+
+    /**
+     * Remove the item with the given ID by moving the last item into its place.
+     * @return the removed item, or null if not found
+     */
+    public T removeById(int id) {
+        int pos = index.remove(id);
+        if (pos == -1) return null;
+        T removed = get(pos);
+        int last = size - 1;
+        if (pos != last) {
+            T moved = get(last);
+            chunks[pos >>> CHUNK_BITS][pos & CHUNK_MASK] = moved;
+            index.put(idOf.applyAsInt(moved), pos);
+        }
+        chunks[last >>> CHUNK_BITS][last & CHUNK_MASK] = null;
+        size--;
+        // keep one spare chunk after the live one, drop anything beyond it
+        int spare = (size >>> CHUNK_BITS) + 2;
+        if (spare < chunks.length) chunks[spare] = null;
+        return removed;
+    }
+
+    public void clear() {
+        chunks = new Object[4][];
+        size = 0;
+        index.clear();
+    }
+}
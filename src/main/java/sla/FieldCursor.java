@@ -0,0 +1,212 @@
+package sla;
+
+/**
+ * Reusable cursor over one comma-separated record held in a char buffer.
+ * Reads ints, doubles and trimmed string fields in place, so parsing a row
+ * allocates only the strings that are kept. One cursor can be reset for every
+ * line of a buffer.
+ */
+public class FieldCursor {
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private char[] buf;
+    private int start;
+    private int pos;
+    private int end;
+    private boolean exhausted;
+
+    public FieldCursor() {
+    }
+
+    public FieldCursor(String line) {
+        char[] chars = line.toCharArray();
+        reset(chars, 0, chars.length);
+    }
+
+    /**
+     * Point the cursor at buf[start, end).
+     */
+    public FieldCursor reset(char[] buf, int start, int end) {
+        this.buf = buf;
+        this.start = start;
+        this.pos = start;
+        this.end = end;
+        this.exhausted = false;
+        return this;
+    }
+
+    /**
+     * The whole record as a String, regardless of how far the cursor has read.
+     */
+    public String record() {
+        return new String(buf, start, end - start);
+    }
+
+    /**
+     * True if the whole remaining record is whitespace.
+     */
+    public boolean isBlank() {
+        for (int i = pos; i < end; i++) {
+            if (buf[i] > ' ') return false;
+        }
+        return true;
+    }
+
+    /**
+     * True if at least one more field (possibly empty) can be read.
+     */
+    public boolean hasNext() {
+        return !exhausted;
+    }
+
+    // index of the delimiter ending the current field (or end)
+    private int fieldEnd() {
+        if (exhausted) throw new IllegalStateException("No more fields");
+        int i = pos;
+        while (i < end && buf[i] != ',') i++;
+        return i;
+    }
+
+    private void advance(int delim) {
+        if (delim >= end) {
+            pos = end;
+            exhausted = true;
+        } else {
+            pos = delim + 1;
+        }
+    }
+
+    private int skipSpace(int from, int to) {
+        while (from < to && buf[from] <= ' ') from++;
+        return from;
+    }
+
+    private int trimEnd(int from, int to) {
+        while (to > from && buf[to - 1] <= ' ') to--;
+        return to;
+    }
+
+    public String nextString() {
+        int delim = fieldEnd();
+        int a = skipSpace(pos, delim);
+        int b = trimEnd(a, delim);
+        advance(delim);
+        return new String(buf, a, b - a);
+    }
+
+    /**
+     * Everything after the cursor as one trimmed string (like the last part of split(",", n)).
+     */
+    public String rest() {
+        if (exhausted) throw new IllegalStateException("No more fields");
+        int a = skipSpace(pos, end);
+        int b = trimEnd(a, end);
+        pos = end;
+        exhausted = true;
+        return new String(buf, a, b - a);
+    }
+
+    /**
+     * Everything after the cursor parsed as one int.
+     */
+    public int restInt() {
+        if (exhausted) throw new IllegalStateException("No more fields");
+        int a = skipSpace(pos, end);
+        int b = trimEnd(a, end);
+        pos = end;
+        exhausted = true;
+        return parseInt(buf, a, b);
+    }
+
+    public int nextInt() {
+        int delim = fieldEnd();
+        int a = skipSpace(pos, delim);
+        int b = trimEnd(a, delim);
+        advance(delim);
+        return parseInt(buf, a, b);
+    }
+
+    static int parseInt(char[] buf, int a, int b) {
+        if (a >= b) throw new NumberFormatException("Empty number field");
+        boolean neg = false;
+        int i = a;
+        if (buf[i] == '-' || buf[i] == '+') {
+            neg = buf[i] == '-';
+            i++;
+            if (i == b) throw new NumberFormatException("Sign without digits");
+        }
+        long v = 0;
+        for (; i < b; i++) {
+            int d = buf[i] - '0';
+            if (d < 0 || d > 9) throw new NumberFormatException("Invalid digit in \"" + new String(buf, a, b - a) + "\"");
+            v = v * 10 + d;
+            if (v > (long) Integer.MAX_VALUE + 1) throw new NumberFormatException("Out of int range: \"" + new String(buf, a, b - a) + "\"");
+        }
+        if (neg) v = -v;
+        if (v > Integer.MAX_VALUE) throw new NumberFormatException("Out of int range: \"" + new String(buf, a, b - a) + "\"");
+        return (int) v;
+    }
+
+    public long nextLong() {
+        int delim = fieldEnd();
+        int a = skipSpace(pos, delim);
+        int b = trimEnd(a, delim);
+        advance(delim);
+        return Long.parseLong(new String(buf, a, b - a));
+    }
+
+    public double nextDouble() {
+        int delim = fieldEnd();
+        int a = skipSpace(pos, delim);
+        int b = trimEnd(a, delim);
+        advance(delim);
+        return parseDouble(buf, a, b);
+    }
+
+    /**
+     * Plain decimals with at most 15 significant digits are parsed exactly without
+     * allocating (mantissa / 10^k is correctly rounded when both are exact doubles);
+     * anything else (exponents, long fractions) goes through Double.parseDouble.
+     */
+    static double parseDouble(char[] buf, int a, int b) {
+        if (a >= b) throw new NumberFormatException("Empty number field");
+        int i = a;
+        boolean neg = false;
+        if (buf[i] == '-' || buf[i] == '+') {
+            neg = buf[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fraction = -1;
+        boolean sawDigit = false;
+        boolean simple = true;
+        for (; i < b; i++) {
+            char c = buf[i];
+            if (c >= '0' && c <= '9') {
+                sawDigit = true;
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0 || fraction >= 0) digits++;
+                if (fraction >= 0) fraction++;
+                if (digits > 15) {
+                    simple = false;
+                    break;
+                }
+            } else if (c == '.' && fraction < 0) {
+                fraction = 0;
+            } else {
+                simple = false;
+                break;
+            }
+        }
+        if (simple && sawDigit && mantissa < MAX_EXACT_MANTISSA && fraction <= 22) {
+            double v = fraction > 0 ? mantissa / POW10[fraction] : (double) mantissa;
+            return neg ? -v : v;
+        }
+        return Double.parseDouble(new String(buf, a, b - a));
+    }
+}
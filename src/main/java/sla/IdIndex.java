@@ -0,0 +1,147 @@
+package sla;
+
+/**
+ * Open-addressing hash index from an int ID to an int slot (array position).
+ * Keys and values are kept in parallel primitive arrays, so lookups never box.
+ * Uses linear probing with backward-shift deletion (no tombstones).
+ */
+public class IdIndex {
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+    private int mask;
+
+    public IdIndex() {
+        this(MIN_CAPACITY);
+    }
+
+    public IdIndex(int expectedSize) {
+        int cap = MIN_CAPACITY;
+        while (cap < expectedSize * 2) cap <<= 1;
+        allocate(cap);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    // spread sequential IDs so neighbours do not form long probe runs
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int id) {
+        return get(id) != -1;
+    }
+
+    /**
+     * Returns the slot stored for id, or -1 if the id is not indexed.
+     */
+    public int get(int id) {
+        int i = hash(id) & mask;
+        while (used[i]) {
+            if (keys[i] == id) return values[i];
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Insert id -> slot only if id is not present yet.
+     * @return false if the id was already indexed (duplicate)
+     */
+    public boolean putIfAbsent(int id, int slot) {
+        int i = hash(id) & mask;
+        while (used[i]) {
+            if (keys[i] == id) return false;
+            i = (i + 1) & mask;
+        }
+        used[i] = true;
+        keys[i] = id;
+        values[i] = slot;
+        if (++size * 2 > keys.length) rehash(keys.length << 1);
+        return true;
+    }
+
+    /**
+     * Insert or overwrite id -> slot.
+     */
+    public void put(int id, int slot) {
+        int i = hash(id) & mask;
+        while (used[i]) {
+            if (keys[i] == id) {
+                values[i] = slot;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        used[i] = true;
+        keys[i] = id;
+        values[i] = slot;
+        if (++size * 2 > keys.length) rehash(keys.length << 1);
+    }
+
+    /**
+     * Remove id from the index.
+     * @return the slot that was stored, or -1 if the id was not indexed
+     */
+    public int remove(int id) {
+        int i = hash(id) & mask;
+        while (used[i]) {
+            if (keys[i] == id) {
+                int old = values[i];
+                shiftBack(i);
+                size--;
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    // close the gap at 'hole' by moving later entries of the probe run back
+    private void shiftBack(int hole) {
+        int i = hole;
+        while (true) {
+            i = (i + 1) & mask;
+            if (!used[i]) break;
+            int home = hash(keys[i]) & mask;
+            // entry at i may move into the hole only if its home is not in (hole, i]
+            boolean between = hole <= i ? (home > hole && home <= i) : (home > hole || home <= i);
+            if (!between) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        used[hole] = false;
+    }
+
+    public void clear() {
+        if (size == 0) return;
+        java.util.Arrays.fill(used, false);
+        size = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) put(oldKeys[i], oldValues[i]);
+        }
+    }
+}
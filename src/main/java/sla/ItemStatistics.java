@@ -0,0 +1,211 @@
+package sla;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live per-question analytics for one assessment, updated on every graded attempt.
+ * All counters are LongAdders (striped), so concurrent sessions recording attempts do
+ * not contend on a shared cache line. Readers get eventually consistent values.
+ *
+ * - difficulty: share of attempts answering the question correctly (classical p-value)
+ * - discrimination: point-biserial correlation between answering correctly and the total score
+ * - distractor frequency: share of attempts choosing each option
+ * - score distribution: attempts per total score (0..questionCount)
+ *
+ * Counters are saved with toCSV() and restored with fromCSV()/copyFrom(); between
+ * saves each attempt is journaled (see ItemStatisticsTable), so they survive restarts.
+ */
+public class ItemStatistics {
+    private final int questionCount;
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder scoreSum = new LongAdder();
+    private final LongAdder scoreSquareSum = new LongAdder();
+    private final LongAdder[] correct;           // [question]
+    private final LongAdder[] correctScoreSum;   // [question] total score of attempts answering it correctly
+    private final LongAdder[][] chosen;          // [question][option 0..3]
+    private final LongAdder[] scoreCounts;       // [score 0..questionCount]
+
+    public ItemStatistics(int questionCount) {
+        this.questionCount = questionCount;
+        this.correct = new LongAdder[questionCount];
+        this.correctScoreSum = new LongAdder[questionCount];
+        this.chosen = new LongAdder[questionCount][4];
+        this.scoreCounts = new LongAdder[questionCount + 1];
+        for (int s = 0; s <= questionCount; s++) scoreCounts[s] = new LongAdder();
+        for (int q = 0; q < questionCount; q++) {
+            correct[q] = new LongAdder();
+            correctScoreSum[q] = new LongAdder();
+            for (int o = 0; o < 4; o++) chosen[q][o] = new LongAdder();
+        }
+    }
+
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    /**
+     * Count one graded attempt.
+     */
+    public void record(AnswerKey key, QuizAttempt attempt) {
+        record(attempt.getPackedAnswers(), key.wrongLanes(attempt.getPackedAnswers()), attempt.getScore());
+    }
+
+    /**
+     * Count one graded attempt from its packed answers and wrong lanes (see AnswerKey),
+     * as replayed from the journal.
+     */
+    public void record(long packed, long wrong, int score) {
+        if (score < 0 || score > questionCount) throw new IllegalArgumentException("Score out of range: " + score);
+        attempts.increment();
+        scoreSum.add(score);
+        scoreSquareSum.add((long) score * score);
+        scoreCounts[score].increment();
+        for (int q = 0; q < questionCount; q++) {
+            int lane = 2 * q;
+            chosen[q][(int) (packed >>> lane) & 3].increment();
+            if ((wrong >>> lane & 1) == 0) {
+                correct[q].increment();
+                correctScoreSum[q].add(score);
+            }
+        }
+    }
+
+    public long getAttempts() {
+        return attempts.sum();
+    }
+
+    public long getCorrectCount(int question) {
+        return correct[question].sum();
+    }
+
+    /**
+     * Number of attempts choosing option (1..4) on the question.
+     */
+    public long getChosenCount(int question, int optionOneBased) {
+        return chosen[question][optionOneBased - 1].sum();
+    }
+
+    /**
+     * Number of attempts with exactly this total score.
+     */
+    public long getScoreCount(int score) {
+        return scoreCounts[score].sum();
+    }
+
+    /**
+     * Number of attempts scoring at least minScore.
+     */
+    public long countScoresAtLeast(int minScore) {
+        long n = 0;
+        for (int s = Math.max(0, minScore); s <= questionCount; s++) n += scoreCounts[s].sum();
+        return n;
+    }
+
+    public double getMeanScore() {
+        long n = attempts.sum();
+        return n == 0 ? Double.NaN : (double) scoreSum.sum() / n;
+    }
+
+    /**
+     * Share of attempts answering the question correctly (0..1), NaN before any attempt.
+     */
+    public double difficulty(int question) {
+        long n = attempts.sum();
+        return n == 0 ? Double.NaN : (double) correct[question].sum() / n;
+    }
+
+    /**
+     * Point-biserial correlation (-1..1) between answering the question correctly and the
+     * total score. NaN when everyone (or no one) got it right or all scores are equal.
+     */
+    public double discrimination(int question) {
+        long n = attempts.sum();
+        long n1 = correct[question].sum();
+        long n0 = n - n1;
+        if (n1 <= 0 || n0 <= 0) return Double.NaN;
+        double total = scoreSum.sum();
+        double mean = total / n;
+        double variance = scoreSquareSum.sum() / (double) n - mean * mean;
+        if (variance <= 0) return Double.NaN;
+        double s1 = correctScoreSum[question].sum();
+        double mean1 = s1 / n1;
+        double mean0 = (total - s1) / n0;
+        return (mean1 - mean0) / Math.sqrt(variance) * Math.sqrt((double) n1 * n0 / ((double) n * n));
+    }
+
+    /**
+     * Share of attempts choosing each option (index 0 = option 1).
+     */
+    public double[] distractorFrequency(int question) {
+        double[] out = new double[4];
+        long n = attempts.sum();
+        if (n == 0) return out;
+        for (int o = 0; o < 4; o++) out[o] = (double) chosen[question][o].sum() / n;
+        return out;
+    }
+
+    // ---- persistence ----
+
+    /**
+     * Every counter: questionCount, attempts, scoreSum, scoreSquareSum, then per question
+     * the correct counts, the correct-score sums and the four option counts, then the
+     * score counts 0..questionCount.
+     */
+    public String toCSV() {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(questionCount).append(',').append(attempts.sum()).append(',').append(scoreSum.sum()).append(',').append(scoreSquareSum.sum());
+        for (LongAdder c : correct) sb.append(',').append(c.sum());
+        for (LongAdder c : correctScoreSum) sb.append(',').append(c.sum());
+        for (LongAdder[] options : chosen) {
+            for (LongAdder c : options) sb.append(',').append(c.sum());
+        }
+        for (LongAdder c : scoreCounts) sb.append(',').append(c.sum());
+        return sb.toString();
+    }
+
+    /**
+     * Counters read back from toCSV() output at the cursor.
+     */
+    public static ItemStatistics fromCSV(FieldCursor c) {
+        ItemStatistics stats = new ItemStatistics(c.nextInt());
+        stats.attempts.add(c.nextLong());
+        stats.scoreSum.add(c.nextLong());
+        stats.scoreSquareSum.add(c.nextLong());
+        for (LongAdder a : stats.correct) a.add(c.nextLong());
+        for (LongAdder a : stats.correctScoreSum) a.add(c.nextLong());
+        for (LongAdder[] options : stats.chosen) {
+            for (LongAdder a : options) a.add(c.nextLong());
+        }
+        for (LongAdder a : stats.scoreCounts) a.add(c.nextLong());
+        return stats;
+    }
+
+    /**
+     * Replace every counter with other's. Ignored if the question counts differ.
+     */
+    public void copyFrom(ItemStatistics other) {
+        if (other.questionCount != questionCount) return;
+        reset();
+        attempts.add(other.attempts.sum());
+        scoreSum.add(other.scoreSum.sum());
+        scoreSquareSum.add(other.scoreSquareSum.sum());
+        for (int s = 0; s <= questionCount; s++) scoreCounts[s].add(other.scoreCounts[s].sum());
+        for (int q = 0; q < questionCount; q++) {
+            correct[q].add(other.correct[q].sum());
+            correctScoreSum[q].add(other.correctScoreSum[q].sum());
+            for (int o = 0; o < 4; o++) chosen[q][o].add(other.chosen[q][o].sum());
+        }
+    }
+
+    public void reset() {
+        attempts.reset();
+        scoreSum.reset();
+        scoreSquareSum.reset();
+        for (LongAdder count : scoreCounts) count.reset();
+        for (int q = 0; q < questionCount; q++) {
+            correct[q].reset();
+            correctScoreSum[q].reset();
+            for (int o = 0; o < 4; o++) chosen[q][o].reset();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package sla;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Persisted item statistics of every assessment, in the same snapshot + journal form as
+ * the student tables.
+ *
+ * Each graded attempt is journaled as "A,seq,assessmentId,questionCount,packed,wrong,score"
+ * with a sequence number that grows in journal order. The snapshot (item_stats.csv)
+ * holds one "I,assessmentId,counters..." row per assessment and an "M,seq" row with
+ * the last sequence number folded in. Attempt records at or below that mark are skipped
+ * on replay, so replaying a journal that is already part of the snapshot (e.g. after an
+ * interrupted checkpoint) does not count attempts twice.
+ */
+public class ItemStatisticsTable {
+    private final Map<Integer, ItemStatistics> byAssessment = new TreeMap<>();
+    private long lastSeq = 0;
+
+    /**
+     * Sequence number of the newest attempt folded in.
+     */
+    public long getLastSeq() {
+        return lastSeq;
+    }
+
+    /**
+     * Statistics of the assessment, or null if it has none.
+     */
+    public ItemStatistics get(int assessmentId) {
+        return byAssessment.get(assessmentId);
+    }
+
+    /**
+     * Apply one snapshot row ("M,seq" or "I,assessmentId,counters...").
+     */
+    public void applyRow(String row) {
+        FieldCursor c = new FieldCursor(row);
+        String type = c.nextString();
+        if (type.equals("M")) {
+            lastSeq = Math.max(lastSeq, c.nextLong());
+        } else if (type.equals("I")) {
+            int id = c.nextInt();
+            byAssessment.put(id, ItemStatistics.fromCSV(c));
+        }
+    }
+
+    /**
+     * Apply one "A," journal record unless it is already folded in.
+     * @return true if the attempt was counted
+     */
+    public boolean applyRecord(String rec) {
+        FieldCursor c = new FieldCursor(rec);
+        c.nextString(); // record type
+        long seq = c.nextLong();
+        if (seq <= lastSeq) return false;
+        int id = c.nextInt();
+        int questionCount = c.nextInt();
+        long packed = c.nextLong();
+        long wrong = c.nextLong();
+        int score = c.nextInt();
+        ItemStatistics stats = byAssessment.get(id);
+        if (stats == null || stats.getQuestionCount() != questionCount) {
+            stats = new ItemStatistics(questionCount);
+            byAssessment.put(id, stats);
+        }
+        stats.record(packed, wrong, score);
+        lastSeq = seq;
+        return true;
+    }
+
+    public List<String> toCSVLines() {
+        return toCSVLines(lastSeq, byAssessment);
+    }
+
+    /**
+     * Snapshot rows for the given statistics (assessment id -> statistics).
+     */
+    public static List<String> toCSVLines(long lastSeq, Map<Integer, ItemStatistics> stats) {
+        List<String> lines = new ArrayList<>(stats.size() + 1);
+        lines.add("M," + lastSeq);
+        for (Map.Entry<Integer, ItemStatistics> e : stats.entrySet()) lines.add("I," + e.getKey() + "," + e.getValue().toCSV());
+        return lines;
+    }
+
+    /**
+     * Journal record for one graded attempt.
+     */
+    public static String record(long seq, int assessmentId, AnswerKey key, QuizAttempt attempt) {
+        long packed = attempt.getPackedAnswers();
+        return "A," + seq + "," + assessmentId + "," + key.getQuestionCount() + "," + packed + "," + key.wrongLanes(packed) + "," + attempt.getScore();
+    }
+}
@@ -0,0 +1,289 @@
+package sla;
+
+import java.util.Arrays;
+
+/**
+ * Students ranked by average score (highest first, ties by lower ID), kept in
+ * order-statistic treaps so an update, a top-K query and a "what is my rank" query
+ * are all O(log n) (plus K for top-K); nothing is ever re-sorted.
+ *
+ * Entries are keyed by the packed score statistics of StudentTutored (taken, sum), and
+ * averages are compared exactly as sum1 * taken2 vs sum2 * taken1. Students with no
+ * assessments are not ranked. Nodes live in parallel arrays reused through a free list.
+ *
+ * The board is split into shards by student ID, each a treap with its own lock, so
+ * concurrent updates for different students rarely contend. Queries visit every shard:
+ * a rank counts the entries ahead in each shard, and top-K merges each shard's top K.
+ * Shards are read one after another, so a query running alongside updates sees each
+ * shard at a slightly different moment.
+ */
+public class Leaderboard {
+    private static final int SHARDS = 16; // power of two
+    private static final int NIL = -1;
+
+    private final Shard[] shards = new Shard[SHARDS];
+
+    public Leaderboard() {
+        for (int i = 0; i < SHARDS; i++) shards[i] = new Shard(0x2545F491 + i);
+    }
+
+    private Shard shardOf(int studentId) {
+        return shards[(studentId ^ (studentId >>> 16)) & (SHARDS - 1)];
+    }
+
+    /**
+     * Insert or move a student after their statistics changed.
+     */
+    public void update(int studentId, long scoreStats) {
+        shardOf(studentId).update(studentId, scoreStats);
+    }
+
+    public void remove(int studentId) {
+        shardOf(studentId).remove(studentId);
+    }
+
+    public int size() {
+        int n = 0;
+        for (Shard shard : shards) n += shard.size();
+        return n;
+    }
+
+    /**
+     * 1-based rank of the student, or -1 if not ranked.
+     */
+    public int rankOf(int studentId) {
+        long stats = shardOf(studentId).statsOf(studentId);
+        if (stats == NIL) return -1;
+        long sum = stats & 0xFFFFFFFFL;
+        long count = StudentTutored.takenOf(stats);
+        int rank = 1;
+        for (Shard shard : shards) rank += shard.countAhead(sum, count, studentId);
+        return rank;
+    }
+
+    /**
+     * Student ids of the first k entries, best first.
+     */
+    public int[] top(int k) {
+        if (k <= 0) return new int[0];
+        int[] ids = new int[k * SHARDS];
+        long[] sums = new long[ids.length];
+        long[] taken = new long[ids.length];
+        int n = 0;
+        for (Shard shard : shards) n += shard.top(k, ids, sums, taken, n);
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> a.intValue() == b.intValue() ? 0
+                : ahead(sums[a], taken[a], ids[a], sums[b], taken[b], ids[b]) ? -1 : 1);
+        int[] out = new int[Math.min(k, n)];
+        for (int i = 0; i < out.length; i++) out[i] = ids[order[i]];
+        return out;
+    }
+
+    public void clear() {
+        for (Shard shard : shards) shard.clear();
+    }
+
+    // true if entry a (sum, taken, id) ranks ahead of entry b
+    private static boolean ahead(long sumA, long takenA, int idA, long sumB, long takenB, int idB) {
+        long l = sumA * takenB;
+        long r = sumB * takenA;
+        long hl = Math.multiplyHigh(sumA, takenB);
+        long hr = Math.multiplyHigh(sumB, takenA);
+        if (hl != hr) return hl > hr;
+        if (l != r) return Long.compareUnsigned(l, r) > 0;
+        return idA < idB;
+    }
+
+    // one treap; every public method holds the shard's lock
+    private static final class Shard {
+        private static final int NIL = -1;
+
+        private final IdIndex nodeOf = new IdIndex(); // student id -> node
+        private int[] ids = new int[16];
+        private long[] sums = new long[16];
+        private long[] taken = new long[16];
+        private int[] priority = new int[16];
+        private int[] left = new int[16];
+        private int[] right = new int[16];
+        private int[] size = new int[16];
+        private int nodeCount = 0;
+        private int freeHead = NIL; // free nodes chained through left[]
+        private int root = NIL;
+        private int seed;
+
+        Shard(int seed) {
+            this.seed = seed;
+        }
+
+        synchronized void update(int studentId, long scoreStats) {
+            int n = nodeOf.get(studentId);
+            if (n != NIL) {
+                root = delete(root, n);
+                free(n);
+                nodeOf.remove(studentId);
+            }
+            int count = StudentTutored.takenOf(scoreStats);
+            if (count == 0) return;
+            n = allocate();
+            ids[n] = studentId;
+            sums[n] = scoreStats & 0xFFFFFFFFL;
+            taken[n] = count;
+            nodeOf.put(studentId, n);
+            long parts = split(root, n);
+            root = merge(merge((int) (parts >> 32), n), (int) parts);
+        }
+
+        synchronized void remove(int studentId) {
+            int n = nodeOf.remove(studentId);
+            if (n == NIL) return;
+            root = delete(root, n);
+            free(n);
+        }
+
+        synchronized int size() {
+            return sizeOf(root);
+        }
+
+        // packed (taken << 32 | sum) of the student's entry, or NIL if not ranked
+        synchronized long statsOf(int studentId) {
+            int n = nodeOf.get(studentId);
+            return n == NIL ? NIL : taken[n] << 32 | sums[n];
+        }
+
+        // entries ranking ahead of (sum, count, id)
+        synchronized int countAhead(long sum, long count, int id) {
+            int ahead = 0;
+            int t = root;
+            while (t != NIL) {
+                if (ahead(sums[t], taken[t], ids[t], sum, count, id)) {
+                    ahead += sizeOf(left[t]) + 1;
+                    t = right[t];
+                } else {
+                    t = left[t];
+                }
+            }
+            return ahead;
+        }
+
+        // copy the first k entries, best first, into the arrays from position at; returns the count
+        synchronized int top(int k, int[] outIds, long[] outSums, long[] outTaken, int at) {
+            int count = Math.min(k, sizeOf(root));
+            int[] stack = new int[64];
+            int sp = 0;
+            int t = root;
+            int n = 0;
+            while (n < count && (t != NIL || sp > 0)) {
+                while (t != NIL) {
+                    if (sp == stack.length) stack = Arrays.copyOf(stack, sp * 2);
+                    stack[sp++] = t;
+                    t = left[t];
+                }
+                t = stack[--sp];
+                outIds[at + n] = ids[t];
+                outSums[at + n] = sums[t];
+                outTaken[at + n] = taken[t];
+                n++;
+                t = right[t];
+            }
+            return n;
+        }
+
+        synchronized void clear() {
+            nodeOf.clear();
+            nodeCount = 0;
+            freeHead = NIL;
+            root = NIL;
+        }
+
+        // ---- treap internals ----
+
+        private int sizeOf(int t) {
+            return t == NIL ? 0 : size[t];
+        }
+
+        private void fix(int t) {
+            size[t] = sizeOf(left[t]) + sizeOf(right[t]) + 1;
+        }
+
+        // true if node a ranks ahead of node b
+        private boolean before(int a, int b) {
+            return ahead(sums[a], taken[a], ids[a], sums[b], taken[b], ids[b]);
+        }
+
+        // split t into (nodes ranking ahead of key) << 32 | (the rest)
+        private long split(int t, int key) {
+            if (t == NIL) return pack(NIL, NIL);
+            if (before(t, key)) {
+                long parts = split(right[t], key);
+                right[t] = (int) (parts >> 32);
+                fix(t);
+                return pack(t, (int) parts);
+            }
+            long parts = split(left[t], key);
+            left[t] = (int) parts;
+            fix(t);
+            return pack((int) (parts >> 32), t);
+        }
+
+        private static long pack(int l, int r) {
+            return ((long) l << 32) | (r & 0xFFFFFFFFL);
+        }
+
+        private int merge(int a, int b) {
+            if (a == NIL) return b;
+            if (b == NIL) return a;
+            if (priority[a] > priority[b]) {
+                right[a] = merge(right[a], b);
+                fix(a);
+                return a;
+            }
+            left[b] = merge(a, left[b]);
+            fix(b);
+            return b;
+        }
+
+        private int delete(int t, int n) {
+            if (t == n) return merge(left[t], right[t]);
+            if (before(n, t)) left[t] = delete(left[t], n);
+            else right[t] = delete(right[t], n);
+            fix(t);
+            return t;
+        }
+
+        private int allocate() {
+            int n;
+            if (freeHead != NIL) {
+                n = freeHead;
+                freeHead = left[n];
+            } else {
+                if (nodeCount == ids.length) grow();
+                n = nodeCount++;
+            }
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            priority[n] = seed;
+            left[n] = NIL;
+            right[n] = NIL;
+            size[n] = 1;
+            return n;
+        }
+
+        private void free(int n) {
+            left[n] = freeHead;
+            freeHead = n;
+        }
+
+        private void grow() {
+            int cap = ids.length * 2;
+            ids = Arrays.copyOf(ids, cap);
+            sums = Arrays.copyOf(sums, cap);
+            taken = Arrays.copyOf(taken, cap);
+            priority = Arrays.copyOf(priority, cap);
+            left = Arrays.copyOf(left, cap);
+            right = Arrays.copyOf(right, cap);
+            size = Arrays.copyOf(size, cap);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package sla;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lesson bodies stored outside the heap in an append-only UTF-8 file, read through a
+ * read-only memory mapping by (offset, length). Decoded bodies are kept in a small LRU
+ * cache bounded by total characters, so heap use follows the lessons actually opened.
+ * Appending never moves existing bodies, so offsets already saved in lessons.csv stay valid.
+ * Compaction writes the live bodies to a file of the next generation instead, which
+ * lessons.csv rows name along with the offsets.
+ */
+public class LessonContentStore {
+    private static final long MAX_CACHED_CHARS = 1L << 20;
+    private static final String PREFIX = "lesson_bodies.";
+    private static final String SUFFIX = ".dat";
+
+    private final File file;
+    private final int generation;
+    private final MappedByteBuffer map; // null when the file is empty
+    private final ReentrantLock lock = new ReentrantLock(); // guards the cache; reads may fault pages in from disk
+    private final LinkedHashMap<Long, String> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedChars = 0;
+
+    private LessonContentStore(File file, int generation, MappedByteBuffer map) {
+        this.file = file;
+        this.generation = generation;
+        this.map = map;
+    }
+
+    /**
+     * The content file of a generation in dir.
+     */
+    public static File fileFor(File dir, int generation) {
+        return new File(dir, PREFIX + generation + SUFFIX);
+    }
+
+    /**
+     * Map the content file of a generation (an empty store if it does not exist yet).
+     */
+    public static LessonContentStore open(File dir, int generation) throws IOException {
+        File file = fileFor(dir, generation);
+        if (!file.exists() || file.length() == 0) return new LessonContentStore(file, generation, null);
+        if (file.length() > Integer.MAX_VALUE) throw new IOException("Lesson content file too large: " + file.length());
+        try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return new LessonContentStore(file, generation, ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()));
+        }
+    }
+
+    /**
+     * Delete the content files of every generation but keep (after a compaction, or ones
+     * left behind by an interrupted one).
+     */
+    public static void deleteOtherGenerations(File dir, int keep) {
+        File[] files = dir.listFiles((d, name) -> name.startsWith(PREFIX) && name.endsWith(SUFFIX));
+        if (files == null) return;
+        for (File f : files) {
+            if (!f.getName().equals(PREFIX + keep + SUFFIX)) f.delete();
+        }
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Bytes in the mapped file, live or not.
+     */
+    public long size() {
+        return map == null ? 0 : map.capacity();
+    }
+
+    /**
+     * Body stored at offset (length bytes), decoded on first access and cached.
+     */
+    public String read(long offset, int length) {
+        lock.lock();
+        try {
+            Long key = offset;
+            String body = cache.get(key);
+            if (body != null) return body;
+            if (map == null || offset < 0 || offset + length > map.capacity()) {
+                throw new IllegalStateException("Lesson content out of range (offset " + offset + ", length " + length + ")");
+            }
+            ByteBuffer slice = map.duplicate();
+            slice.position((int) offset).limit((int) offset + length);
+            body = StandardCharsets.UTF_8.decode(slice).toString();
+            cache.put(key, body);
+            cachedChars += body.length();
+            Iterator<Map.Entry<Long, String>> it = cache.entrySet().iterator();
+            while (cachedChars > MAX_CACHED_CHARS && cache.size() > 1 && it.hasNext()) {
+                cachedChars -= it.next().getValue().length();
+                it.remove();
+            }
+            return body;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Append a body to the end of the file.
+     * @return the {offset, length} to store in the lesson reference
+     */
+    public static long[] append(FileChannel ch, String body) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(body.getBytes(StandardCharsets.UTF_8));
+        long offset = ch.size();
+        long pos = offset;
+        while (bytes.hasRemaining()) pos += ch.write(bytes, pos);
+        return new long[] { offset, pos - offset };
+    }
+}
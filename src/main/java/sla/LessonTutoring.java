@@ -0,0 +1,155 @@
+package sla;
+
+/**
+ * Lesson with a topic and a textual body. The body is either held inline (new or
+ * legacy lessons) or referenced by generation/offset/length in a LessonContentStore
+ * and read only when the lesson is delivered.
+ *
+ * CSV rows: id,subject,status,topic,content for inline bodies (a body starting with '@'
+ * gets one more '@' so it cannot be taken for a reference), or
+ * id,subject,status,topic,@ref,generation,offset,length for stored ones.
+ */
+public class LessonTutoring extends Content {
+    private static final String REF_MARKER = "@ref";
+
+    private String topicLesson;
+    private String lessonContent; // full textual content (null when stored in contentStore)
+    private LessonContentStore contentStore;
+    private int contentGeneration = -1;
+    private long contentOffset = -1;
+    private int contentLength;
+
+    public LessonTutoring(int contentIdentifierID, String subjectContent, String statusContent, String topicLesson, String lessonContent) {
+        super(contentIdentifierID, subjectContent, statusContent);
+        this.topicLesson = topicLesson;
+        this.lessonContent = lessonContent;
+    }
+
+    // body referenced in the content file; the store is attached after loading
+    private LessonTutoring(int contentIdentifierID, String subjectContent, String statusContent, String topicLesson, int generation, long offset, int length) {
+        super(contentIdentifierID, subjectContent, statusContent);
+        this.topicLesson = topicLesson;
+        this.contentGeneration = generation;
+        this.contentOffset = offset;
+        this.contentLength = length;
+    }
+
+    public String getTopicLesson() {
+        return topicLesson;
+    }
+
+    public String getLessonContent() {
+        if (lessonContent != null) return lessonContent;
+        if (contentStore == null) return "";
+        return contentStore.read(contentOffset, contentLength);
+    }
+
+    /**
+     * True if the body still lives on the heap and has not been written to a content file.
+     */
+    public boolean hasInlineContent() {
+        return lessonContent != null;
+    }
+
+    /**
+     * Point this lesson at its body in the content file and drop any inline copy.
+     */
+    public void attachContent(LessonContentStore store, long offset, int length) {
+        this.contentStore = store;
+        this.contentGeneration = store.getGeneration();
+        this.contentOffset = offset;
+        this.contentLength = length;
+        this.lessonContent = null;
+    }
+
+    /**
+     * Attach the store for a lesson loaded with a reference to that store's generation,
+     * or move a lesson to a new mapping of the file it already lives in.
+     */
+    public void attachContent(LessonContentStore store) {
+        if (lessonContent == null && contentOffset >= 0 && contentGeneration == store.getGeneration()) this.contentStore = store;
+    }
+
+    /**
+     * True if the body lives in the given store.
+     */
+    public boolean isStoredIn(LessonContentStore store) {
+        return lessonContent == null && store != null && contentStore == store;
+    }
+
+    /**
+     * Generation of the content file the body references, or -1 if it is inline.
+     */
+    public int getContentGeneration() {
+        return lessonContent == null ? contentGeneration : -1;
+    }
+
+    public long getContentOffset() {
+        return contentOffset;
+    }
+
+    public int getContentLength() {
+        return contentLength;
+    }
+
+    public void deliverLesson() {
+        deliverLesson(System.out);
+    }
+
+    public void deliverLesson(java.io.PrintStream out) {
+        out.println("\n=== Delivering Lesson ===");
+        out.println("Topic: " + topicLesson);
+        out.println("Subject: " + getSubjectContent());
+        out.println("----- Content -----");
+        out.println(getLessonContent());
+        setStatus(ContentStatus.ACTIVE);
+        out.println("Status: " + getStatusContent());
+    }
+
+    @Override
+    public void loadContent() {
+        System.out.println("Loading lesson content for: " + topicLesson + " (" + getSubjectContent() + ")");
+    }
+
+    public String toCSV() {
+        // id,subject,status,topic,content (commas replaced with semicolons)
+        String body = getLessonContent().replace(",", ";");
+        if (body.startsWith("@")) body = "@" + body;
+        return getContentIdentifierID() + "," + getSubjectContent() + "," + getStatusContent() + "," + topicLesson.replace(",", ";") + "," + body;
+    }
+
+    /**
+     * CSV row referencing the body in the content file: id,subject,status,topic,@ref,generation,offset,length
+     */
+    public String toCSVRef() {
+        return getContentIdentifierID() + "," + getSubjectContent() + "," + getStatusContent() + "," + topicLesson.replace(",", ";")
+                + "," + REF_MARKER + "," + contentGeneration + "," + contentOffset + "," + contentLength;
+    }
+
+    // parse with limit to keep content intact
+    public static LessonTutoring fromCSV(String line) {
+        return fromCSV(new FieldCursor(line));
+    }
+
+    public static LessonTutoring fromCSV(FieldCursor c) {
+        try {
+            int id = c.nextInt();
+            String subject = c.nextString();
+            String status = c.nextString();
+            String topic = c.nextString();
+            String content = c.rest();
+            if (content.startsWith(REF_MARKER + ",")) {
+                FieldCursor ref = new FieldCursor(content);
+                ref.nextString(); // marker
+                int generation = ref.nextInt();
+                long offset = ref.nextLong();
+                int length = ref.nextInt();
+                return new LessonTutoring(id, subject, status, topic, generation, offset, length);
+            }
+            if (content.startsWith("@@")) content = content.substring(1); // escaped leading '@'
+            return new LessonTutoring(id, subject, status, topic, content);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package sla;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning the work of one menu action: the clock starts when the
+ * choice is read and restarts each time the action has read further input, so the time
+ * spent waiting on the user is not counted. Choices that only open a sub-menu are not
+ * recorded; the sub-menu's own actions are. Costs next to nothing unless a recording
+ * enables it: start() only starts the clock, the action notes the entity IDs it works on
+ * (plain int stores), and finish() fills in the rest only if the event is committed. An
+ * ID of 0 means the action did not touch that kind of entity.
+ */
+@Name("sla.MenuAction")
+@Label("Menu Action")
+@Category({ "Smart Tutoring System", "Menus" })
+@Description("One dispatched menu choice")
+public class MenuActionEvent extends jdk.jfr.Event {
+    @Label("Session")
+    String session;
+
+    @Label("Menu")
+    String menu;
+
+    @Label("Choice")
+    String choice;
+
+    @Label("Student ID")
+    int studentId;
+
+    @Label("Tutor ID")
+    int tutorId;
+
+    @Label("Lesson ID")
+    int lessonId;
+
+    @Label("Assessment ID")
+    int assessmentId;
+
+    /**
+     * Start timing a menu action.
+     */
+    public static MenuActionEvent start() {
+        MenuActionEvent event = new MenuActionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Restart the clock once the action has its input (prompt answers, a finished quiz).
+     */
+    public void inputRead() {
+        begin();
+    }
+
+    public void student(int id) {
+        studentId = id;
+    }
+
+    public void tutor(int id) {
+        tutorId = id;
+    }
+
+    public void lesson(int id) {
+        lessonId = id;
+    }
+
+    public void assessment(int id) {
+        assessmentId = id;
+    }
+
+    /**
+     * Finish timing the choice read from a menu and commit if a recording wants the event.
+     */
+    public void finish(Session session, String menu, String choice) {
+        end();
+        if (!shouldCommit()) return;
+        this.session = session.getName();
+        this.menu = menu;
+        this.choice = choice;
+        commit();
+    }
+}
@@ -0,0 +1,53 @@
+package sla;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide operation metrics, published as MBeans under the "SmartTutoringSystem"
+ * domain so monitoring can scrape them over JMX:
+ *   SmartTutoringSystem:type=Operation,name=load|save|quiz|grade|addStudent|removeStudent|lookup
+ *   SmartTutoringSystem:type=Data (entity counts and bytes written)
+ */
+public final class Metrics {
+    public static final String DOMAIN = "SmartTutoringSystem";
+
+    public static final OperationMetrics LOAD = new OperationMetrics("load");
+    public static final OperationMetrics SAVE = new OperationMetrics("save");
+    public static final OperationMetrics QUIZ = new OperationMetrics("quiz");
+    public static final OperationMetrics GRADE = new OperationMetrics("grade");
+    public static final OperationMetrics ADD_STUDENT = new OperationMetrics("addStudent");
+    public static final OperationMetrics REMOVE_STUDENT = new OperationMetrics("removeStudent");
+    public static final OperationMetrics LOOKUP = new OperationMetrics("lookup");
+
+    private static final OperationMetrics[] ALL = { LOAD, SAVE, QUIZ, GRADE, ADD_STUDENT, REMOVE_STUDENT, LOOKUP };
+
+    // bytes written to snapshot files and the change journal, as encoded on disk
+    static final LongAdder BYTES_PERSISTED = new LongAdder();
+
+    private Metrics() {
+    }
+
+    /**
+     * Register the operation MBeans and the data gauges of app with the platform MBean
+     * server. Returns false (after a warning) if JMX registration fails.
+     */
+    public static boolean register(SmartTutoringSystem app) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            for (OperationMetrics op : ALL) {
+                ObjectName name = new ObjectName(DOMAIN + ":type=Operation,name=" + op.getName());
+                if (!server.isRegistered(name)) server.registerMBean(op, name);
+            }
+            ObjectName data = new ObjectName(DOMAIN + ":type=Data");
+            if (server.isRegistered(data)) server.unregisterMBean(data);
+            server.registerMBean(new DataMetrics(app), data);
+            return true;
+        } catch (Exception e) {
+            System.err.println("Warning: metrics MBeans not registered: " + e.getMessage());
+            return false;
+        }
+    }
+}
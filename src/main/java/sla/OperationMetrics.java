@@ -0,0 +1,124 @@
+package sla;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count, errors and a latency histogram for one operation, cheap enough to leave on:
+ * recording an event is a nanoTime read and a few LongAdder increments, with no lock
+ * and no allocation. Latencies go into 64 power-of-two buckets (bucket i counts
+ * latencies in [2^(i-1), 2^i) ns), so percentiles are accurate to a factor of two.
+ */
+public class OperationMetrics implements OperationMetricsMBean {
+    private static final int BUCKETS = 64;
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private volatile long sinceNanos = System.nanoTime();
+
+    public OperationMetrics(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKETS; i++) buckets[i] = new LongAdder();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Record one successful event that started at startNanos (a System.nanoTime value).
+     */
+    public void record(long startNanos) {
+        record(startNanos, true);
+    }
+
+    public void record(long startNanos, boolean ok) {
+        long nanos = Math.max(0, System.nanoTime() - startNanos);
+        count.increment();
+        if (!ok) errors.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        buckets[BUCKETS - Long.numberOfLeadingZeros(nanos)].increment();
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Events per second since start (or the last reset).
+     */
+    @Override
+    public double getRatePerSecond() {
+        double seconds = (System.nanoTime() - sinceNanos) / 1e9;
+        return seconds <= 0 ? 0.0 : count.sum() / seconds;
+    }
+
+    @Override
+    public double getMeanMicros() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : totalNanos.sum() / 1e3 / n;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return maxNanos.get() / 1e3;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return percentileMicros(0.50);
+    }
+
+    @Override
+    public double getP90Micros() {
+        return percentileMicros(0.90);
+    }
+
+    @Override
+    public double getP99Micros() {
+        return percentileMicros(0.99);
+    }
+
+    // upper bound of the bucket holding the q-th quantile
+    private double percentileMicros(double q) {
+        long[] counts = getHistogram();
+        long total = 0;
+        for (long c : counts) total += c;
+        if (total == 0) return 0.0;
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(Math.pow(2, i), maxNanos.get()) / 1e3;
+        }
+        return maxNanos.get() / 1e3;
+    }
+
+    @Override
+    public long[] getHistogram() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) counts[i] = buckets[i].sum();
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        count.reset();
+        errors.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        for (LongAdder b : buckets) b.reset();
+        sinceNanos = System.nanoTime();
+    }
+}
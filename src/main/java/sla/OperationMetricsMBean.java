@@ -0,0 +1,33 @@
+package sla;
+
+/**
+ * JMX view of one instrumented operation (see OperationMetrics).
+ * Latencies are in microseconds; percentiles are bucket upper bounds.
+ */
+public interface OperationMetricsMBean {
+    long getCount();
+
+    /**
+     * Events that failed or were rejected (e.g. adding a duplicate student ID).
+     */
+    long getErrorCount();
+
+    double getRatePerSecond();
+
+    double getMeanMicros();
+
+    double getMaxMicros();
+
+    double getP50Micros();
+
+    double getP90Micros();
+
+    double getP99Micros();
+
+    /**
+     * Event counts per power-of-two latency bucket; bucket i holds latencies below 2^i ns.
+     */
+    long[] getHistogram();
+
+    void reset();
+}
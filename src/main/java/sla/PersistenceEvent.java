@@ -0,0 +1,59 @@
+package sla;
+
+import java.io.File;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for reading, writing or replaying one data file during
+ * saveToCSV, loadFromCSV or journal compaction. start() only starts the clock; finish()
+ * fills the fields (reading the file size) only if the event is committed.
+ */
+@Name("sla.Persistence")
+@Label("Persistence File")
+@Category({ "Smart Tutoring System", "Persistence" })
+@Description("One data file saved, loaded or replayed")
+public class PersistenceEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("File")
+    String file;
+
+    @Label("Records")
+    int records;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Start timing one file.
+     */
+    public static PersistenceEvent start() {
+        PersistenceEvent event = new PersistenceEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finish with the operation ("save", "load", "replay"), file, record count and outcome,
+     * and commit if a recording wants the event.
+     */
+    public void finish(String operation, File f, int records, boolean success) {
+        end();
+        if (!shouldCommit()) return;
+        this.operation = operation;
+        this.file = f.getName();
+        this.records = records;
+        this.bytes = f.length();
+        this.success = success;
+        commit();
+    }
+}
@@ -0,0 +1,52 @@
+package sla;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One graded attempt at an assessment. Every attempt owns its answers and result,
+ * so sessions taking the same assessment at the same time never share grading state.
+ */
+public class QuizAttempt {
+    private final int assessmentId;
+    private final long packedAnswers;
+    private final int score;
+    private final int questionCount;
+    private final int[] wrongModuleIds;
+
+    QuizAttempt(int assessmentId, AnswerKey key, long packedAnswers) {
+        this.assessmentId = assessmentId;
+        this.packedAnswers = packedAnswers;
+        this.score = key.score(packedAnswers);
+        this.questionCount = key.getQuestionCount();
+        this.wrongModuleIds = key.wrongModuleIds(packedAnswers);
+    }
+
+    public int getAssessmentId() {
+        return assessmentId;
+    }
+
+    /**
+     * Answers packed 2 bits per question (see AnswerKey).
+     */
+    public long getPackedAnswers() {
+        return packedAnswers;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    /**
+     * Module ids of the questions answered incorrectly, for review recommendations.
+     */
+    public List<Integer> getWrongModuleIds() {
+        List<Integer> out = new ArrayList<>(wrongModuleIds.length);
+        for (int id : wrongModuleIds) out.add(id);
+        return out;
+    }
+}
@@ -0,0 +1,56 @@
+package sla;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning one administerQuiz session, from the first question
+ * being shown until the attempt is graded (or the session ends early). begin() only
+ * starts the clock; finish() fills the fields only if the event is committed.
+ */
+@Name("sla.QuizSession")
+@Label("Quiz Session")
+@Category({ "Smart Tutoring System", "Assessments" })
+@Description("One assessment taken interactively")
+public class QuizSessionEvent extends jdk.jfr.Event {
+    @Label("Assessment ID")
+    int assessmentId;
+
+    @Label("Subject")
+    String subject;
+
+    @Label("Questions")
+    int questions;
+
+    @Label("Score")
+    int score;
+
+    @Label("Completed")
+    boolean completed;
+
+    /**
+     * Start timing a quiz session.
+     */
+    public static QuizSessionEvent start() {
+        QuizSessionEvent event = new QuizSessionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finish with the assessment and its attempt (null if the session ended early), and
+     * commit if a recording wants the event.
+     */
+    public void finish(AssessmentTutoring assessment, QuizAttempt attempt) {
+        end();
+        if (!shouldCommit()) return;
+        assessmentId = assessment.getContentIdentifierID();
+        subject = assessment.getSubjectContent();
+        questions = assessment.getAnswerKey().getQuestionCount();
+        score = attempt == null ? -1 : attempt.getScore();
+        completed = attempt != null;
+        commit();
+    }
+}
@@ -0,0 +1,174 @@
+package sla;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-student weakness vectors over lesson IDs, built from the module ids of wrongly
+ * answered questions. Each student's lessons are kept ranked (most missed first,
+ * then lowest lesson ID), and a new miss only moves that lesson up a few places, so
+ * the "review next" list is always ready and reading it is a lookup.
+ *
+ * Rows ("studentId,lessonId:misses;lessonId:misses") hold absolute counts, so the same
+ * text is used for weaknesses.csv and for journal records.
+ */
+public class RecommendationEngine {
+    private final Map<Integer, Weakness> byStudent = new ConcurrentHashMap<>();
+
+    /**
+     * Count one miss for each lesson id (duplicates count twice).
+     * @return the student's row for the lessons touched (absolute counts), or null if none
+     */
+    public String recordMisses(int studentId, List<Integer> lessonIds) {
+        if (lessonIds.isEmpty()) return null;
+        Weakness w = byStudent.computeIfAbsent(studentId, k -> new Weakness());
+        StringBuilder row = new StringBuilder().append(studentId).append(',');
+        synchronized (w) {
+            for (int lessonId : lessonIds) w.set(lessonId, w.get(lessonId) + 1);
+            // one entry per distinct lesson with its new total
+            IdIndex seen = new IdIndex(lessonIds.size());
+            for (int lessonId : lessonIds) {
+                if (!seen.putIfAbsent(lessonId, 0)) continue;
+                if (seen.size() > 1) row.append(';');
+                row.append(lessonId).append(':').append(w.get(lessonId));
+            }
+        }
+        return row.toString();
+    }
+
+    public int getMisses(int studentId, int lessonId) {
+        Weakness w = byStudent.get(studentId);
+        if (w == null) return 0;
+        synchronized (w) {
+            return w.get(lessonId);
+        }
+    }
+
+    /**
+     * Up to limit lesson ids the student should review, most missed first.
+     */
+    public int[] reviewNext(int studentId, int limit) {
+        Weakness w = byStudent.get(studentId);
+        if (w == null) return new int[0];
+        synchronized (w) {
+            return w.top(limit);
+        }
+    }
+
+    public void removeStudent(int studentId) {
+        byStudent.remove(studentId);
+    }
+
+    public void clear() {
+        byStudent.clear();
+    }
+
+    /**
+     * Apply a row: "studentId,lessonId:misses;..." (absolute counts).
+     */
+    public void applyRow(FieldCursor c) {
+        int studentId = c.nextInt();
+        String entries = c.isBlank() ? "" : c.rest();
+        Weakness w = byStudent.computeIfAbsent(studentId, k -> new Weakness());
+        synchronized (w) {
+            int start = 0;
+            while (start < entries.length()) {
+                int end = entries.indexOf(';', start);
+                if (end < 0) end = entries.length();
+                int colon = entries.indexOf(':', start);
+                if (colon > start && colon < end) {
+                    int lessonId = Integer.parseInt(entries.substring(start, colon).trim());
+                    int misses = Integer.parseInt(entries.substring(colon + 1, end).trim());
+                    w.set(lessonId, Math.max(0, misses));
+                }
+                start = end + 1;
+            }
+        }
+    }
+
+    public void applyRow(String row) {
+        applyRow(new FieldCursor(row));
+    }
+
+    /**
+     * One row per student with at least one miss, lessons in rank order.
+     */
+    public List<String> toCSVLines() {
+        List<String> lines = new ArrayList<>(byStudent.size());
+        for (Map.Entry<Integer, Weakness> e : byStudent.entrySet()) {
+            Weakness w = e.getValue();
+            StringBuilder row = new StringBuilder().append(e.getKey()).append(',');
+            synchronized (w) {
+                if (w.size == 0 || w.misses[0] == 0) continue;
+                for (int i = 0; i < w.size && w.misses[i] > 0; i++) {
+                    if (i > 0) row.append(';');
+                    row.append(w.lessonIds[i]).append(':').append(w.misses[i]);
+                }
+            }
+            lines.add(row.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * One student's lessons in rank order; callers synchronize on the instance.
+     */
+    static final class Weakness {
+        private final IdIndex position = new IdIndex(); // lessonId -> index in the ranked arrays
+        private int[] lessonIds = new int[4];
+        private int[] misses = new int[4];
+        private int size = 0;
+
+        int get(int lessonId) {
+            int p = position.get(lessonId);
+            return p == -1 ? 0 : misses[p];
+        }
+
+        void set(int lessonId, int count) {
+            int p = position.get(lessonId);
+            if (p == -1) {
+                if (count == 0) return;
+                if (size == lessonIds.length) {
+                    lessonIds = java.util.Arrays.copyOf(lessonIds, size * 2);
+                    misses = java.util.Arrays.copyOf(misses, size * 2);
+                }
+                p = size++;
+                lessonIds[p] = lessonId;
+                position.put(lessonId, p);
+            }
+            misses[p] = count;
+            // restore rank order by moving only this entry
+            while (p > 0 && before(p, p - 1)) {
+                swap(p, p - 1);
+                p--;
+            }
+            while (p + 1 < size && before(p + 1, p)) {
+                swap(p, p + 1);
+                p++;
+            }
+        }
+
+        private boolean before(int a, int b) {
+            return misses[a] > misses[b] || (misses[a] == misses[b] && lessonIds[a] < lessonIds[b]);
+        }
+
+        private void swap(int a, int b) {
+            int id = lessonIds[a];
+            int m = misses[a];
+            lessonIds[a] = lessonIds[b];
+            misses[a] = misses[b];
+            lessonIds[b] = id;
+            misses[b] = m;
+            position.put(lessonIds[a], a);
+            position.put(lessonIds[b], b);
+        }
+
+        int[] top(int limit) {
+            int n = 0;
+            while (n < Math.min(limit, size) && misses[n] > 0) n++;
+            return java.util.Arrays.copyOf(lessonIds, n);
+        }
+    }
+}
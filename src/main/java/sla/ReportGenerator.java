@@ -0,0 +1,173 @@
+package sla;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+/**
+ * End-of-term aggregate report. Student figures (performance bands, learning style
+ * distribution, tutor workload, students passing) come from one pass over the store,
+ * run as a parallel stream for large rosters: each worker fills its own Totals and
+ * the partial totals are merged at the end. Subject figures (attempts, mean score,
+ * pass rate) come from the assessments' score distributions, so no attempts are kept.
+ */
+public class ReportGenerator {
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    // StudentTutored.evaluatePerformance labels, best first
+    private static final String[] BANDS = { "Excellent", "Good", "Average", "Needs Improvement", "No Assessments Taken" };
+
+    // per-group columns: students, assessed, assessments taken, score sum, progress sum
+    private static final int STUDENTS = 0, ASSESSED = 1, TAKEN = 2, SCORE_SUM = 3, PROGRESS_SUM = 4, COLUMNS = 5;
+
+    /**
+     * Aggregate students at store positions [0, size). The caller keeps the store stable.
+     */
+    public static Totals aggregate(int size, IntFunction<StudentTutored> studentAt) {
+        IntStream positions = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) positions = positions.parallel();
+        return positions.mapToObj(studentAt).collect(Collector.of(Totals::new, Totals::add, Totals::merge));
+    }
+
+    /**
+     * Report lines for the totals and the given assessments.
+     * @param tutorNames tutor id -> display name (missing ids are shown as unknown)
+     */
+    public static List<String> render(Totals totals, List<AssessmentTutoring> assessments, Map<Integer, String> tutorNames) {
+        List<String> lines = new ArrayList<>();
+        long[] all = totals.overall;
+        lines.add("=== Smart Learning Assistant - Term Report ===");
+        lines.add("Generated: " + java.time.LocalDateTime.now().withNano(0));
+        lines.add("");
+        lines.add("Students: " + all[STUDENTS] + " | Assessed: " + all[ASSESSED] + " | Assessments taken: " + all[TAKEN]);
+        lines.add(String.format("Average score: %.2f/10 | Average progress: %.1f module(s)", ratio(all[SCORE_SUM], all[TAKEN]),
+                ratio(all[PROGRESS_SUM], all[STUDENTS])));
+        lines.add(String.format("Students averaging at least %d/10: %d (%.1f%% of assessed)", AssessmentTutoring.PASS_SCORE,
+                totals.passing, 100 * ratio(totals.passing, all[ASSESSED])));
+
+        lines.add("");
+        lines.add("--- Performance bands ---");
+        for (int b = 0; b < BANDS.length; b++) {
+            lines.add(String.format("%-22s %8d  %5.1f%%", BANDS[b], totals.bands[b], 100 * ratio(totals.bands[b], all[STUDENTS])));
+        }
+
+        lines.add("");
+        lines.add("--- Learning styles ---");
+        lines.add(String.format("%-12s %8s %8s %10s %12s", "Style", "Students", "Assessed", "Avg score", "Avg progress"));
+        Map<String, long[]> styles = new TreeMap<>();
+        for (Map.Entry<Symbol, long[]> e : totals.byStyle.entrySet()) styles.put(e.getKey().getName(), e.getValue());
+        for (Map.Entry<String, long[]> e : styles.entrySet()) lines.add(groupRow("%-12s", e.getKey(), e.getValue()));
+
+        lines.add("");
+        lines.add("--- Tutor workload ---");
+        lines.add(String.format("%-30s %8s %8s %10s %12s", "Tutor", "Students", "Assessed", "Avg score", "Avg progress"));
+        Map<Integer, long[]> tutors = new TreeMap<>();
+        long[] unassigned = null;
+        for (Map.Entry<Integer, long[]> e : totals.byTutor.entrySet()) {
+            if (e.getKey() == null) unassigned = e.getValue();
+            else tutors.put(e.getKey(), e.getValue());
+        }
+        for (Map.Entry<Integer, long[]> e : tutors.entrySet()) {
+            String name = tutorNames.getOrDefault(e.getKey(), "(unknown tutor)");
+            lines.add(groupRow("%-30s", e.getKey() + " " + name, e.getValue()));
+        }
+        if (unassigned != null) lines.add(groupRow("%-30s", "(unassigned)", unassigned));
+
+        lines.add("");
+        lines.add("--- Subjects (all graded attempts) ---");
+        lines.add(String.format("%-12s %8s %10s %10s", "Subject", "Attempts", "Mean", "Pass rate"));
+        // attempts, score sum, passed, max score per subject, in first-seen order
+        Map<Symbol, long[]> subjects = new LinkedHashMap<>();
+        for (AssessmentTutoring a : assessments) {
+            ItemStatistics stats = a.getItemStatistics();
+            long[] row = subjects.computeIfAbsent(a.getSubject(), k -> new long[4]);
+            for (int s = 0; s <= stats.getQuestionCount(); s++) {
+                long n = stats.getScoreCount(s);
+                row[0] += n;
+                row[1] += n * s;
+            }
+            row[2] += stats.countScoresAtLeast(AssessmentTutoring.PASS_SCORE);
+            row[3] = Math.max(row[3], stats.getQuestionCount());
+        }
+        for (Map.Entry<Symbol, long[]> e : subjects.entrySet()) {
+            long[] row = e.getValue();
+            lines.add(String.format("%-12s %8d %7.2f/%-2d %9.1f%%", e.getKey().getName(), row[0], ratio(row[1], row[0]), row[3],
+                    100 * ratio(row[2], row[0])));
+        }
+        lines.add("(pass = score of at least " + AssessmentTutoring.PASS_SCORE + ")");
+        return lines;
+    }
+
+    private static String groupRow(String labelFormat, String label, long[] g) {
+        return String.format(labelFormat + " %8d %8d %10.2f %12.1f", label, g[STUDENTS], g[ASSESSED], ratio(g[SCORE_SUM], g[TAKEN]),
+                ratio(g[PROGRESS_SUM], g[STUDENTS]));
+    }
+
+    private static double ratio(long a, long b) {
+        return b == 0 ? 0.0 : (double) a / b;
+    }
+
+    /**
+     * Partial or merged student totals.
+     */
+    public static final class Totals {
+        private final long[] overall = new long[COLUMNS];
+        private final long[] bands = new long[BANDS.length];
+        private final Map<Symbol, long[]> byStyle = new HashMap<>();
+        private final Map<Integer, long[]> byTutor = new HashMap<>(); // null key = unassigned
+        private long passing = 0;
+
+        void add(StudentTutored s) {
+            long stats = s.getScoreStats(); // one snapshot for every figure of this student
+            int taken = StudentTutored.takenOf(stats);
+            long sum = stats & 0xFFFFFFFFL;
+            int progress = s.getProgressLevelOfUser();
+            count(overall, taken, sum, progress);
+            count(byStyle.computeIfAbsent(s.getLearningStyle(), k -> new long[COLUMNS]), taken, sum, progress);
+            count(byTutor.computeIfAbsent(s.getAssignedTutorID(), k -> new long[COLUMNS]), taken, sum, progress);
+            String band = StudentTutored.evaluatePerformance(stats);
+            for (int b = 0; b < BANDS.length; b++) {
+                if (BANDS[b].equals(band)) {
+                    bands[b]++;
+                    break;
+                }
+            }
+            if (taken > 0 && sum >= (long) AssessmentTutoring.PASS_SCORE * taken) passing++;
+        }
+
+        private static void count(long[] g, int taken, long sum, int progress) {
+            g[STUDENTS]++;
+            if (taken > 0) g[ASSESSED]++;
+            g[TAKEN] += taken;
+            g[SCORE_SUM] += sum;
+            g[PROGRESS_SUM] += progress;
+        }
+
+        Totals merge(Totals other) {
+            addInto(overall, other.overall);
+            addInto(bands, other.bands);
+            for (Map.Entry<Symbol, long[]> e : other.byStyle.entrySet()) {
+                addInto(byStyle.computeIfAbsent(e.getKey(), k -> new long[COLUMNS]), e.getValue());
+            }
+            for (Map.Entry<Integer, long[]> e : other.byTutor.entrySet()) {
+                addInto(byTutor.computeIfAbsent(e.getKey(), k -> new long[COLUMNS]), e.getValue());
+            }
+            passing += other.passing;
+            return this;
+        }
+
+        private static void addInto(long[] target, long[] source) {
+            for (int i = 0; i < target.length; i++) target[i] += source[i];
+        }
+
+        public long getStudentCount() {
+            return overall[STUDENTS];
+        }
+    }
+}
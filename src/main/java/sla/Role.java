@@ -0,0 +1,17 @@
+package sla;
+
+/**
+ * Role of a user account.
+ */
+public enum Role {
+    STUDENT,
+    TUTOR;
+
+    /**
+     * Case-insensitive parse of a role name.
+     */
+    public static Role parse(String s) {
+        if (s == null) throw new IllegalArgumentException("Role must not be null");
+        return valueOf(s.trim().toUpperCase(java.util.Locale.ROOT));
+    }
+}
@@ -0,0 +1,89 @@
+package sla;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+
+/**
+ * One interactive user of the system: the local console, or a client connected in
+ * server mode. Menus read and write only through their session, so any number of
+ * sessions can run at the same time.
+ */
+public class Session implements Closeable {
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final String name;
+    private final Scanner in;
+    private final Charset charset;
+    private final PrintStream out;      // buffered, not auto-flushed
+    private final Closeable connection; // null for the console
+
+    private Session(String name, Scanner in, Charset charset, PrintStream out, Closeable connection) {
+        this.name = name;
+        this.in = in;
+        this.charset = charset;
+        this.out = out;
+        this.connection = connection;
+    }
+
+    /**
+     * The local console. Output is buffered and written once per screen (on the next read).
+     */
+    public static Session console() {
+        Charset cs = Charset.defaultCharset();
+        return new Session("console", new Scanner(System.in), cs,
+                new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), BUFFER_SIZE), false, cs), null);
+    }
+
+    /**
+     * Session over a client connection; closing the session closes the connection.
+     */
+    public static Session remote(String name, InputStream in, OutputStream out, Closeable connection) {
+        return new Session(name, new Scanner(in, StandardCharsets.UTF_8.name()), StandardCharsets.UTF_8,
+                new PrintStream(new BufferedOutputStream(out, BUFFER_SIZE), false, StandardCharsets.UTF_8), connection);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Scanner in() {
+        return in;
+    }
+
+    /**
+     * Buffered output; everything written is sent when the session next reads input.
+     */
+    public PrintStream out() {
+        return out;
+    }
+
+    /**
+     * Charset the output stream encodes with (for writing pre-rendered bytes).
+     */
+    public Charset charset() {
+        return charset;
+    }
+
+    /**
+     * Next input line (trimmed). Throws NoSuchElementException when the user disconnects.
+     */
+    public String readLine() {
+        out.flush();
+        return in.nextLine().trim();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.flush();
+        if (connection != null) connection.close();
+    }
+}
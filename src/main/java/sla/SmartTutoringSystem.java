@@ -0,0 +1,1968 @@
+package sla;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Smart Learning Assistant (SLA) main program.
+ * - Loads lessons & assessments from CSV immediately (./data/).
+ * - If CSV missing or incomplete, initializes predefined content (2 modules per subject) and saves to ./data/.
+ * - Assessments: 10 MCQ items, auto-graded, score = correct out of 10.
+ * - Tutors provide predefined, rule-based feedback messages.
+ * - Uses growable chunked stores with ID indexes, console UI, and progress bars.
+ * - Run with "--server [port]" to serve many sessions at once over a localhost socket.
+ */
+public class SmartTutoringSystem {
+
+    // growable chunked stores, each with its own ID index
+    private final EntityStore<StudentTutored> students = new EntityStore<>(StudentTutored::getUserTutoredID);
+    private final EntityStore<TutorTutoring> tutors = new EntityStore<>(TutorTutoring::getUserTutoredID);
+    private final EntityStore<LessonTutoring> lessons = new EntityStore<>(LessonTutoring::getContentIdentifierID);
+    private final EntityStore<AssessmentTutoring> assessments = new EntityStore<>(AssessmentTutoring::getContentIdentifierID);
+
+    // subject -> content indexes, maintained alongside the stores
+    private final SubjectIndex<TutorTutoring> tutorsBySubject = new SubjectIndex<>();
+    private final SubjectIndex<LessonTutoring> lessonsBySubject = new SubjectIndex<>();
+    private final SubjectIndex<AssessmentTutoring> assessmentsBySubject = new SubjectIndex<>();
+
+    // per-student lesson misses, ranked for "review next"
+    private final RecommendationEngine recommendations = new RecommendationEngine();
+    private static final int REVIEW_LIMIT = 3;
+
+    // rankings by average score, overall and per assigned tutor; updated with every progress record
+    private final Leaderboard leaderboard = new Leaderboard();
+    private final Map<Integer, Leaderboard> tutorLeaderboards = new ConcurrentHashMap<>();
+    private static final int LEADERBOARD_SIZE = 10;
+
+    // tutor -> assigned students with class totals; maintained with the rankings
+    private final TutorRoster roster = new TutorRoster();
+
+    // guards the stores and indexes above; sessions read concurrently, adds/removes/loads write
+    private final ReentrantReadWriteLock storeLock = new ReentrantReadWriteLock();
+
+    // closed while the background warm-up loads a table; accesses wait for their own table only
+    private final TableGate studentsReady = new TableGate();  // students, rankings, rosters, weaknesses
+    private final TableGate tutorsReady = new TableGate();
+    private final TableGate lessonsReady = new TableGate();
+    private final TableGate assessmentsReady = new TableGate();
+
+    private final String filePath; // data folder, "data" unless given
+
+    // change journal: student changes are appended here and folded into students.csv at checkpoints
+    private static final String JOURNAL_FILE = "journal.log";
+    private static final String CHECKPOINT_FILE = "journal.log.old";
+    private static final String STUDENT_RECORDS_FILE = "students.bin";
+    private static final String WEAKNESS_FILE = "weaknesses.csv";
+    private static final String ITEM_STATS_FILE = "item_stats.csv";
+    private static final long COMPACT_THRESHOLD = 1024 * 1024; // journal bytes before background compaction
+
+    private ChangeJournal journal;
+    private StudentRecordFile studentRecords; // in-place progress counters, overlaid on students.csv
+    private LessonContentStore lessonBodies;  // mapped lesson bodies, read on deliverLesson
+    // locks held around file I/O are ReentrantLocks, not monitors, so virtual-thread sessions do not pin their carriers
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+    private final ReentrantLock[] studentLocks = newLocks(64);
+    private final AtomicLong attemptSeq = new AtomicLong(); // last journaled attempt (see ItemStatisticsTable)
+    private final AtomicBoolean compactionQueued = new AtomicBoolean(false);
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "journal-compactor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Subjects fixed
+    private final List<String> SUBJECTS = Arrays.asList("INTROWEB", "OOP", "DSAL", "ICYBER", "OPSYSFUN");
+
+    // Mapping subject -> number of modules (we ensure 2 each)
+    private final int MODULES_PER_SUBJECT = 2;
+
+    public SmartTutoringSystem() {
+        this("data");
+    }
+
+    /**
+     * System keeping its files in dataDir (used by the JMH benchmarks to work in a scratch folder).
+     */
+    SmartTutoringSystem(String dataDir) {
+        this.filePath = dataDir;
+    }
+
+    public static void main(String[] args) {
+        SmartTutoringSystem app = new SmartTutoringSystem();
+        app.loadOrInitData();
+        Metrics.register(app);
+        if (args.length > 0 && args[0].equals("--server")) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : TutoringServer.DEFAULT_PORT;
+            try {
+                TutoringServer server = new TutoringServer(app, port);
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        server.close();
+                    } catch (IOException ignored) {
+                    }
+                    app.shutdown();
+                }, "server-shutdown"));
+                server.serve();
+            } catch (IOException e) {
+                System.err.println("Could not start server on port " + port + ": " + e.getMessage());
+                app.shutdown();
+            }
+            return;
+        }
+        app.runSession(Session.console());
+        app.shutdown();
+    }
+
+    /**
+     * Run the menus for one user until they exit (or disconnect).
+     */
+    public void runSession(Session session) {
+        try {
+            mainMenu(session);
+        } finally {
+            session.out().flush();
+        }
+    }
+
+    /**
+     * Startup: with saved content on disk the tables are loaded by a background warm-up
+     * and the menu is shown right away; otherwise predefined content is created and saved.
+     */
+    void loadOrInitData() {
+        openPersistence();
+        File dir = new File(filePath);
+        boolean saved = hasRows(new File(dir, "tutors.csv")) && hasRows(new File(dir, "lessons.csv")) && hasRows(new File(dir, "assessments.csv"));
+        if (!saved) {
+            initAndSavePredefinedContent();
+            return;
+        }
+        studentsReady.close();
+        tutorsReady.close();
+        lessonsReady.close();
+        assessmentsReady.close();
+        Thread warmUp = new Thread(this::warmUp, "table-warmup");
+        warmUp.setDaemon(true);
+        warmUp.start();
+        System.out.println("Loading data from ./" + filePath + "/ in the background.");
+    }
+
+    private static boolean hasRows(File file) {
+        return file.isFile() && file.length() > 0;
+    }
+
+    private boolean contentComplete() {
+        return tutors.size() >= SUBJECTS.size() && lessons.size() >= SUBJECTS.size() * MODULES_PER_SUBJECT && assessments.size() >= SUBJECTS.size();
+    }
+
+    private void initAndSavePredefinedContent() {
+        System.out.println("No valid saved data found. Initializing predefined content...");
+        initPredefinedContent();
+        savePredefinedContent();
+    }
+
+    private void savePredefinedContent() {
+        boolean ok = saveToCSV();
+        if (ok) System.out.println("Predefined content saved to ./" + filePath + "/");
+        else System.out.println("Warning: failed to save predefined content automatically.");
+    }
+
+    /**
+     * Background load of every table, smallest first. The content gates (tutors, lessons,
+     * assessments) open together once the content is final, i.e. after a reset of damaged
+     * content files; the students gate opens once students are filled. A gate's table is
+     * only touched by this thread until it opens, so tables are filled without the store
+     * lock and open tables stay usable meanwhile.
+     */
+    private void warmUp() {
+        File dir = new File(filePath);
+        boolean complete = false;
+        try {
+            try {
+                fillTutors(readTable(new File(dir, "tutors.csv"), TutorTutoring::fromCSV));
+            } catch (Exception e) {
+                System.err.println("Error loading tutors: " + e.getMessage());
+            }
+            try {
+                fillLessons(dir, readTable(new File(dir, "lessons.csv"), LessonTutoring::fromCSV));
+            } catch (Exception e) {
+                System.err.println("Error loading lessons: " + e.getMessage());
+            }
+            // the checkpoint lock keeps compaction from rewriting the journal while item statistics replay it
+            checkpointLock.lock();
+            try {
+                fillAssessments(dir, readTable(new File(dir, "assessments.csv"), AssessmentTutoring::fromCSV));
+            } catch (Exception e) {
+                System.err.println("Error loading assessments: " + e.getMessage());
+            } finally {
+                checkpointLock.unlock();
+            }
+            complete = contentComplete();
+            if (!complete) {
+                // damaged content files: start over as on a first run (this also drops students)
+                System.out.println("Saved content is incomplete. Initializing predefined content...");
+                initPredefinedContent();
+            }
+        } finally {
+            tutorsReady.open();
+            lessonsReady.open();
+            assessmentsReady.open();
+            if (!complete) studentsReady.open();
+        }
+        if (!complete) {
+            savePredefinedContent(); // after the gates open: saveToCSV waits for every table
+            return;
+        }
+        // the checkpoint lock keeps compaction from rewriting students.csv mid-load
+        checkpointLock.lock();
+        try {
+            fillStudents(dir, readTable(new File(dir, "students.csv"), this::parseStudent));
+        } catch (Exception e) {
+            System.err.println("Error loading students: " + e.getMessage());
+        } finally {
+            studentsReady.open();
+            checkpointLock.unlock();
+        }
+    }
+
+    private void awaitAllTables() {
+        tutorsReady.await();
+        lessonsReady.await();
+        assessmentsReady.await();
+        studentsReady.await();
+    }
+
+    private void initPredefinedContent() {
+        storeLock.writeLock().lock();
+        try {
+            fillPredefinedContent();
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+    }
+
+    private void fillPredefinedContent() {
+        // reset stores
+        students.clear();
+        tutors.clear();
+        lessons.clear();
+        assessments.clear();
+        tutorsBySubject.clear();
+        lessonsBySubject.clear();
+        assessmentsBySubject.clear();
+        recommendations.clear();
+        clearRankings();
+
+        // Predefined tutors (one per subject)
+        putTutor(new TutorTutoring(1001, "Dr. Alice Smith", "alice@example.com", "OOP", "PhD Computer Science", "Doctorate"));
+        putTutor(new TutorTutoring(1002, "Mr. Bob Tan", "bob@example.com", "INTROWEB", "MSc Software Engineering", "Masters"));
+        putTutor(new TutorTutoring(1003, "Ms. Carla Reyes", "carla@example.com", "DSAL", "BSc Computer Science", "Bachelors"));
+        putTutor(new TutorTutoring(1004, "Engr. Danilo Cruz", "danilo@example.com", "ICYBER", "MSc Information Security", "Masters"));
+        putTutor(new TutorTutoring(1005, "Prof. Edwin Lim", "edwin@example.com", "OPSYSFUN", "PhD Computer Engineering", "Doctorate"));
+
+        // Predefined lessons: 2 per subject with actual content
+        int lessonId = 2001;
+        for (String subj : SUBJECTS) {
+            // Module 1
+            putLesson(new LessonTutoring(lessonId++, subj, "uncompleted", subj + " - Module 1",
+                    "This is the content for " + subj + " Module 1.\nIt covers the basic concepts and examples."));
+            // Module 2
+            putLesson(new LessonTutoring(lessonId++, subj, "uncompleted", subj + " - Module 2",
+                    "This is the content for " + subj + " Module 2.\nIt goes deeper with practice problems."));
+        }
+
+        // Predefined assessments: one per subject, each with 10 MCQs
+        // first half of the questions covers the subject's Module 1, second half Module 2
+        int assessId = 3001;
+        int firstModuleId = 2001;
+        for (String subj : SUBJECTS) {
+            AssessmentTutoring a = new AssessmentTutoring(assessId++, subj, "uncompleted");
+            // fill 10 simple sample questions - replace with richer content if needed
+            for (int i = 0; i < a.getMaxQuestions(); i++) {
+                String q = subj + " Question " + (i + 1) + ": What is the correct choice?";
+                String[] opts = new String[] {
+                        "Option A for " + (i + 1),
+                        "Option B for " + (i + 1),
+                        "Option C for " + (i + 1),
+                        "Option D for " + (i + 1)
+                };
+                int correct = (i % 4) + 1; // rotate correct answers 1..4
+                int moduleId = firstModuleId + i * MODULES_PER_SUBJECT / a.getMaxQuestions();
+                a.setQuestionAt(i, q, opts, correct, moduleId);
+            }
+            putAssessment(a);
+            firstModuleId += MODULES_PER_SUBJECT;
+        }
+    }
+
+    // ---- Student operations ----
+    /**
+     * Register a student. Returns false if the ID is already taken.
+     */
+    public boolean addStudent(StudentTutored student) {
+        studentsReady.await();
+        long start = System.nanoTime();
+        long seq;
+        storeLock.writeLock().lock();
+        try {
+            if (!students.add(student)) {
+                Metrics.ADD_STUDENT.record(start, false);
+                return false;
+            }
+            updateRanking(student);
+            // enqueued under the lock so S/R records for one ID keep their order
+            writeStudentRecord(student);
+            seq = journal("S," + student.toCSV());
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+        // the fsync is waited for after unlocking, so readers are not held up and concurrent writers share it
+        awaitJournal(seq);
+        Metrics.ADD_STUDENT.record(start, true);
+        return true;
+    }
+
+    /**
+     * Bulk-add the students of an intake file (see StudentImporter). Validation runs
+     * before the lock is taken; accepted rows are then inserted under one write lock and
+     * journaled with a single fsync, waited for after the lock is released. IDs already registered are rejected.
+     * Rejects are written to rejectsFile if there are any.
+     * @return the batch; getAccepted() holds the students actually added
+     */
+    public StudentImporter.Batch importStudents(File in, File rejectsFile) throws IOException {
+        studentsReady.await();
+        StudentImporter.Batch batch = StudentImporter.read(in);
+        List<StudentTutored> added = new ArrayList<>(batch.getAccepted().size());
+        long seq;
+        storeLock.writeLock().lock();
+        try {
+            List<String> records = new ArrayList<>(batch.getAccepted().size());
+            for (StudentTutored s : batch.getAccepted()) {
+                if (!students.add(s)) {
+                    batch.reject(StudentImporter.rowOf(s), "ID already exists");
+                    continue;
+                }
+                updateRanking(s);
+                writeStudentRecord(s);
+                records.add("S," + s.toCSV());
+                added.add(s);
+            }
+            seq = journalAll(records);
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+        awaitJournal(seq);
+        batch.setAccepted(added);
+        if (!batch.getRejects().isEmpty() && !CSVUtils.writeLines(rejectsFile, batch.getRejects())) {
+            throw new IOException("Could not write " + rejectsFile.getAbsolutePath());
+        }
+        return batch;
+    }
+
+    public boolean removeStudent(int studentTutorID) {
+        studentsReady.await();
+        long start = System.nanoTime();
+        long seq;
+        storeLock.writeLock().lock();
+        try {
+            if (students.removeById(studentTutorID) == null) {
+                Metrics.REMOVE_STUDENT.record(start, false);
+                return false;
+            }
+            if (studentRecords != null) studentRecords.remove(studentTutorID);
+            recommendations.removeStudent(studentTutorID);
+            removeRanking(studentTutorID);
+            seq = journal("R," + studentTutorID);
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+        awaitJournal(seq);
+        Metrics.REMOVE_STUDENT.record(start, true);
+        return true;
+    }
+
+    public void displayAllStudents() {
+        displayAllStudents(System.out);
+    }
+
+    public void displayAllStudents(PrintStream out) {
+        studentsReady.await();
+        storeLock.readLock().lock();
+        try {
+            if (students.isEmpty()) {
+                out.println("No students registered.");
+                return;
+            }
+            int totalModules = SUBJECTS.size() * MODULES_PER_SUBJECT;
+            for (int i = 0; i < students.size(); i++) {
+                StudentTutored s = students.get(i);
+                out.println("----- Student #" + (i + 1) + " -----");
+                s.displayInfo(out);
+                s.displayProgress(totalModules, out);
+            }
+        } finally {
+            storeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * One page of students matching the query, after cursor (null for the first page).
+     * Filters are evaluated in parallel over the store for large rosters; a tutor filter
+     * only visits that tutor's students.
+     */
+    public StudentQuery.Page queryStudents(StudentQuery query, String cursor) {
+        studentsReady.await();
+        storeLock.readLock().lock();
+        try {
+            if (query.getTutor() != null) {
+                int[] ids = roster.studentsOf(query.getTutor());
+                return query.run(ids.length, i -> students.findById(ids[i]), cursor);
+            }
+            return query.run(students.size(), students::get, cursor);
+        } finally {
+            storeLock.readLock().unlock();
+        }
+    }
+
+    private void displayStudentRow(StudentTutored s, PrintStream out) {
+        Integer tutor = s.getAssignedTutorID();
+        out.println(String.format("%-8d %-24s %-9s tutor %-6s progress %3d | avg %5.2f | %s", s.getUserTutoredID(),
+                s.getNameUser(), s.getLearningStyleOfUser(), tutor == null ? "-" : tutor.toString(),
+                s.getProgressLevelOfUser(), s.getAverageScoreOutOf10(), s.evaluatePerformance()));
+    }
+
+    // prompts for filters, sorting and page size, then pages through the results
+    private void studentQueryMenu(Session session) {
+        PrintStream out = session.out();
+        StudentQuery q = new StudentQuery();
+        out.print("Performance (Excellent/Good/Average/Needs Improvement/No Assessments Taken, blank = any): ");
+        q.performance(session.readLine());
+        out.print("Learning style (blank = any): ");
+        q.learningStyle(session.readLine());
+        out.print("Assigned tutor ID (blank = any): ");
+        String tutor = session.readLine();
+        if (!tutor.isEmpty()) q.tutor(Integer.valueOf(tutor));
+        out.print("Progress range min-max (blank = any): ");
+        String range = session.readLine();
+        if (!range.isEmpty()) {
+            int dash = range.indexOf('-');
+            if (dash < 0) q.progressBetween(Integer.parseInt(range), Integer.parseInt(range));
+            else q.progressBetween(Integer.parseInt(range.substring(0, dash).trim()), Integer.parseInt(range.substring(dash + 1).trim()));
+        }
+        out.print("Sort by (id/name/average/progress, blank = id): ");
+        String sort = session.readLine();
+        StudentQuery.SortKey key = sort.isEmpty() ? StudentQuery.SortKey.ID : StudentQuery.SortKey.valueOf(sort.toUpperCase(Locale.ROOT));
+        out.print("Descending? (y/n): ");
+        q.sortBy(key, session.readLine().equalsIgnoreCase("y"));
+        out.print("Page size (blank = 20): ");
+        String size = session.readLine();
+        if (!size.isEmpty()) q.pageSize(Integer.parseInt(size));
+
+        String cursor = null;
+        int page = 1;
+        while (true) {
+            MenuActionEvent action = MenuActionEvent.start();
+            StudentQuery.Page result;
+            try {
+                result = queryStudents(q, cursor);
+                out.println("\n--- Students: page " + page + " (" + result.getMatched() + " matching) ---");
+                if (result.getRows().isEmpty()) out.println("No students match.");
+                for (StudentTutored s : result.getRows()) displayStudentRow(s, out);
+            } finally {
+                action.finish(session, "students query", "page " + page);
+            }
+            cursor = result.getNextCursor();
+            if (cursor == null) return;
+            out.print("n = next page, anything else = back: ");
+            if (!session.readLine().equalsIgnoreCase("n")) return;
+            page++;
+        }
+    }
+
+    // ---- Tutor operations ----
+    public boolean addTutor(TutorTutoring tutor) {
+        tutorsReady.await();
+        return putTutor(tutor);
+    }
+
+    // addTutor without waiting for the gate, for the warm-up thread that holds it closed
+    private boolean putTutor(TutorTutoring tutor) {
+        storeLock.writeLock().lock();
+        try {
+            if (!tutors.add(tutor)) {
+                System.out.println("Tutor ID " + tutor.getUserTutoredID() + " already exists.");
+                return false;
+            }
+            tutorsBySubject.add(tutor.getSubject(), tutor);
+            return true;
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+    }
+
+    public void displayAllTutors() {
+        displayAllTutors(System.out);
+    }
+
+    public void displayAllTutors(PrintStream out) {
+        tutorsReady.await();
+        storeLock.readLock().lock();
+        try {
+            if (tutors.isEmpty()) {
+                out.println("No tutors registered.");
+                return;
+            }
+            for (int i = 0; i < tutors.size(); i++) {
+                out.println("----- Tutor #" + (i + 1) + " -----");
+                tutors.get(i).displayInfo(out);
+            }
+        } finally {
+            storeLock.readLock().unlock();
+        }
+    }
+
+    public TutorTutoring findTutorById(int id) {
+        tutorsReady.await();
+        long start = System.nanoTime();
+        storeLock.readLock().lock();
+        try {
+            return tutors.findById(id);
+        } finally {
+            storeLock.readLock().unlock();
+            Metrics.LOOKUP.record(start);
+        }
+    }
+
+    public StudentTutored findStudentById(int id) {
+        studentsReady.await();
+        long start = System.nanoTime();
+        storeLock.readLock().lock();
+        try {
+            return students.findById(id);
+        } finally {
+            storeLock.readLock().unlock();
+            Metrics.LOOKUP.record(start);
+        }
+    }
+
+    public TutorTutoring findTutorBySubject(String subject) {
+        tutorsReady.await();
+        long start = System.nanoTime();
+        storeLock.readLock().lock();
+        try {
+            return tutorsBySubject.first(subject);
+        } finally {
+            storeLock.readLock().unlock();
+            Metrics.LOOKUP.record(start);
+        }
+    }
+
+    /**
+     * Tutor message for a score: the student's assigned tutor if any,
+     * otherwise the first tutor whose expertise matches the subject.
+     */
+    private String tutorFeedback(StudentTutored student, Symbol subject, int score) {
+        tutorsReady.await();
+        TutorTutoring t;
+        if (student != null && student.getAssignedTutorID() != null) {
+            t = findTutorById(student.getAssignedTutorID());
+        } else {
+            storeLock.readLock().lock();
+            try {
+                t = tutorsBySubject.first(subject);
+            } finally {
+                storeLock.readLock().unlock();
+            }
+        }
+        return t == null ? "" : t.provideSupportByScore(score);
+    }
+
+    // ---- Lesson operations ----
+    public boolean addLesson(LessonTutoring lesson) {
+        lessonsReady.await();
+        return putLesson(lesson);
+    }
+
+    // addLesson without waiting for the gate, for the warm-up thread that holds it closed
+    private boolean putLesson(LessonTutoring lesson) {
+        storeLock.writeLock().lock();
+        try {
+            if (!lessons.add(lesson)) {
+                System.out.println("Lesson ID " + lesson.getContentIdentifierID() + " already exists.");
+                return false;
+            }
+            lessonsBySubject.add(lesson.getSubject(), lesson);
+            return true;
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+    }
+
+    public void displayAllLessons() {
+        displayAllLessons(System.out);
+    }
+
+    public void displayAllLessons(PrintStream out) {
+        lessonsReady.await();
+        storeLock.readLock().lock();
+        try {
+            if (lessons.isEmpty()) {
+                out.println("No lessons available.");
+                return;
+            }
+            for (int i = 0; i < lessons.size(); i++) {
+                LessonTutoring l = lessons.get(i);
+                l.displaySummary(out);
+                out.println("Topic: " + l.getTopicLesson());
+            }
+        } finally {
+            storeLock.readLock().unlock();
+        }
+    }
+
+    public LessonTutoring findLessonById(int id) {
+        lessonsReady.await();
+        long start = System.nanoTime();
+        storeLock.readLock().lock();
+        try {
+            return lessons.findById(id);
+        } finally {
+            storeLock.readLock().unlock();
+            Metrics.LOOKUP.record(start);
+        }
+    }
+
+    public List<LessonTutoring> findLessonsBySubject(String subject) {
+        lessonsReady.await();
+        long start = System.nanoTime();
+        storeLock.readLock().lock();
+        try {
+            return new ArrayList<>(lessonsBySubject.all(subject));
+        } finally {
+            storeLock.readLock().unlock();
+            Metrics.LOOKUP.record(start);
+        }
+    }
+
+    // ---- Assessment operations ----
+    public boolean addAssessment(AssessmentTutoring assessment) {
+        assessmentsReady.await();
+        return putAssessment(assessment);
+    }
+
+    // addAssessment without waiting for the gate, for the warm-up thread that holds it closed
+    private boolean putAssessment(AssessmentTutoring assessment) {
+        storeLock.writeLock().lock();
+        try {
+            if (!assessments.add(assessment)) {
+                System.out.println("Assessment ID " + assessment.getContentIdentifierID() + " already exists.");
+                return false;
+            }
+            assessmentsBySubject.add(assessment.getSubject(), assessment);
+            return true;
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+    }
+
+    public void displayAllAssessments() {
+        displayAllAssessments(System.out);
+    }
+
+    public void displayAllAssessments(PrintStream out) {
+        assessmentsReady.await();
+        storeLock.readLock().lock();
+        try {
+            if (assessments.isEmpty()) {
+                out.println("No assessments available.");
+                return;
+            }
+            for (int i = 0; i < assessments.size(); i++) {
+                AssessmentTutoring a = assessments.get(i);
+                a.displaySummary(out);
+                out.println("Last Score (if any): " + (a.getLastScore() < 0 ? "N/A" : a.getLastScore() + "/10"));
+            }
+        } finally {
+            storeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Per-question difficulty, discrimination and option shares from live attempts.
+     */
+    public void displayItemAnalysis(AssessmentTutoring a, PrintStream out) {
+        ItemStatistics stats = a.getItemStatistics();
+        long n = stats.getAttempts();
+        out.println("\n--- Item Analysis: " + a.getSubjectContent() + " (Assessment ID: " + a.getContentIdentifierID() + ") ---");
+        if (n == 0) {
+            out.println("No graded attempts yet.");
+            return;
+        }
+        out.println("Attempts: " + n + " | Mean score: " + String.format("%.2f", stats.getMeanScore()) + "/" + stats.getQuestionCount());
+        for (int q = 0; q < stats.getQuestionCount(); q++) {
+            double r = stats.discrimination(q);
+            StringBuilder line = new StringBuilder();
+            line.append(String.format("Q%-2d correct %5.1f%% | discrimination %s | options:", q + 1,
+                    stats.difficulty(q) * 100, Double.isNaN(r) ? "  n/a" : String.format("%5.2f", r)));
+            double[] shares = stats.distractorFrequency(q);
+            int key = a.getCorrectOption(q);
+            for (int o = 0; o < 4; o++) {
+                line.append(String.format(" %d%s %4.1f%%", o + 1, o + 1 == key ? "*" : ")", shares[o] * 100));
+            }
+            out.println(line);
+        }
+        out.println("(* = correct option)");
+    }
+
+    // ---- Gauges (unlocked reads, for metrics) ----
+
+    public int getStudentCount() {
+        return students.size();
+    }
+
+    public int getTutorCount() {
+        return tutors.size();
+    }
+
+    public int getLessonCount() {
+        return lessons.size();
+    }
+
+    public int getAssessmentCount() {
+        return assessments.size();
+    }
+
+    /**
+     * Bytes in the change journal not yet folded into a snapshot (0 without a journal).
+     */
+    public long getJournalBytes() {
+        ChangeJournal j = journal;
+        return j == null ? 0 : j.size();
+    }
+
+    // ---- Reports ----
+    private static final String REPORT_FILE = "report.txt";
+
+    /**
+     * Write the term report (see ReportGenerator) to file. Students are aggregated in
+     * one parallel pass under the read lock; rendering and writing happen after it.
+     * @return number of students covered, or -1 if the file could not be written
+     */
+    public long writeReport(File file) {
+        awaitAllTables();
+        ReportGenerator.Totals totals;
+        List<AssessmentTutoring> allAssessments = new ArrayList<>();
+        Map<Integer, String> tutorNames = new HashMap<>();
+        storeLock.readLock().lock();
+        try {
+            totals = ReportGenerator.aggregate(students.size(), students::get);
+            for (int i = 0; i < assessments.size(); i++) allAssessments.add(assessments.get(i));
+            for (int i = 0; i < tutors.size(); i++) tutorNames.put(tutors.get(i).getUserTutoredID(), tutors.get(i).getNameUser());
+        } finally {
+            storeLock.readLock().unlock();
+        }
+        List<String> lines = ReportGenerator.render(totals, allAssessments, tutorNames);
+        return CSVUtils.writeLines(file, lines) ? totals.getStudentCount() : -1;
+    }
+
+    public AssessmentTutoring findAssessmentBySubject(String subject) {
+        return findAssessmentBySubject(SymbolTable.SUBJECTS.lookup(subject));
+    }
+
+    public AssessmentTutoring findAssessmentBySubject(Symbol subject) {
+        assessmentsReady.await();
+        long start = System.nanoTime();
+        storeLock.readLock().lock();
+        try {
+            return assessmentsBySubject.first(subject);
+        } finally {
+            storeLock.readLock().unlock();
+            Metrics.LOOKUP.record(start);
+        }
+    }
+
+    public AssessmentTutoring findAssessmentById(int id) {
+        assessmentsReady.await();
+        long start = System.nanoTime();
+        storeLock.readLock().lock();
+        try {
+            return assessments.findById(id);
+        } finally {
+            storeLock.readLock().unlock();
+            Metrics.LOOKUP.record(start);
+        }
+    }
+
+    // ---- Persistence: CSV (fixed directory) ----
+    /**
+     * Full checkpoint: the journal is rotated aside, every table is written
+     * from memory, and the rotated journal is dropped once the snapshot is on disk.
+     */
+    public boolean saveToCSV() {
+        awaitAllTables(); // before the checkpoint lock, which the warm-up holds while loading students
+        long start = System.nanoTime();
+        boolean ok = checkpoint();
+        Metrics.SAVE.record(start, ok);
+        return ok;
+    }
+
+    private boolean checkpoint() {
+        checkpointLock.lock();
+        try {
+            File checkpoint = new File(filePath, CHECKPOINT_FILE);
+            try {
+                if (journal != null) journal.rotateInto(checkpoint);
+            } catch (IOException e) {
+                System.err.println("Error rotating change journal: " + e.getMessage());
+                return false;
+            }
+            // exclusive: lesson bodies are re-pointed at the new content file while saving
+            storeLock.writeLock().lock();
+            try {
+                boolean ok = writeSnapshot();
+                if (ok) {
+                    try {
+                        if (studentRecords != null) rebuildStudentRecords();
+                    } catch (IOException e) {
+                        System.err.println("Error writing student record file: " + e.getMessage());
+                    }
+                    checkpoint.delete();
+                }
+                return ok;
+            } finally {
+                storeLock.writeLock().unlock();
+            }
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    private boolean writeSnapshot() {
+        try {
+            File dir = new File(filePath);
+            if (!dir.exists()) dir.mkdirs();
+
+            // Students
+            List<String> studLines = new ArrayList<>();
+            for (int i = 0; i < students.size(); i++) studLines.add(students.get(i).toCSV());
+            boolean s1 = writeTable(new File(dir, "students.csv"), studLines);
+
+            // Tutors
+            List<String> tutorLines = new ArrayList<>();
+            for (int i = 0; i < tutors.size(); i++) tutorLines.add(tutors.get(i).toCSV());
+            boolean s2 = writeTable(new File(dir, "tutors.csv"), tutorLines);
+
+            // Lessons: bodies go to the content file, rows keep only a reference; older
+            // content files are dropped once lessons.csv no longer points at them
+            boolean s3 = writeLessonBodies(dir);
+            if (s3) {
+                List<String> lessonLines = new ArrayList<>();
+                for (int i = 0; i < lessons.size(); i++) lessonLines.add(lessons.get(i).toCSVRef());
+                s3 = writeTable(new File(dir, "lessons.csv"), lessonLines);
+                if (s3) LessonContentStore.deleteOtherGenerations(dir, lessonBodies.getGeneration());
+            }
+
+            // Assessments
+            List<String> asLines = new ArrayList<>();
+            for (int i = 0; i < assessments.size(); i++) asLines.add(assessments.get(i).toCSV());
+            boolean s4 = writeTable(new File(dir, "assessments.csv"), asLines);
+
+            // Lesson weaknesses
+            boolean s5 = writeTable(new File(dir, WEAKNESS_FILE), recommendations.toCSVLines());
+
+            // Item statistics, marked with the last attempt they include
+            Map<Integer, ItemStatistics> itemStats = new TreeMap<>();
+            for (int i = 0; i < assessments.size(); i++) itemStats.put(assessments.get(i).getContentIdentifierID(), assessments.get(i).getItemStatistics());
+            boolean s6 = writeTable(new File(dir, ITEM_STATS_FILE), ItemStatisticsTable.toCSVLines(attemptSeq.get(), itemStats));
+
+            return s1 && s2 && s3 && s4 && s5 && s6;
+        } catch (Exception e) {
+            System.err.println("Error saving CSVs: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean loadFromCSV() {
+        awaitAllTables();
+        long start = System.nanoTime();
+        boolean ok = false;
+        checkpointLock.lock();
+        storeLock.writeLock().lock();
+        try {
+            ok = readSnapshot();
+            return ok;
+        } finally {
+            storeLock.writeLock().unlock();
+            checkpointLock.unlock();
+            Metrics.LOAD.record(start, ok);
+        }
+    }
+
+    private boolean readSnapshot() {
+        try {
+            File dir = new File(filePath);
+            if (!dir.exists()) {
+                return false;
+            }
+
+            // parse the four files at the same time; stores are filled on this thread afterwards
+            ExecutorService tableLoader = Executors.newFixedThreadPool(4, r -> {
+                Thread t = new Thread(r, "csv-table-loader");
+                t.setDaemon(true);
+                return t;
+            });
+            try {
+                Future<List<StudentTutored>> studFuture = tableLoader.submit(() -> readTable(new File(dir, "students.csv"), this::parseStudent));
+                Future<List<TutorTutoring>> tutorFuture = tableLoader.submit(() -> readTable(new File(dir, "tutors.csv"), TutorTutoring::fromCSV));
+                Future<List<LessonTutoring>> lessonFuture = tableLoader.submit(() -> readTable(new File(dir, "lessons.csv"), LessonTutoring::fromCSV));
+                Future<List<AssessmentTutoring>> asFuture = tableLoader.submit(() -> readTable(new File(dir, "assessments.csv"), AssessmentTutoring::fromCSV));
+
+                fillStudents(dir, studFuture.get());
+                fillTutors(tutorFuture.get());
+                fillLessons(dir, lessonFuture.get());
+                fillAssessments(dir, asFuture.get());
+            } finally {
+                tableLoader.shutdown();
+            }
+
+            return true;
+        } catch (Exception e) {
+            System.err.println("Error loading CSVs: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Table fills: called with the write lock held (reload) or before the table's gate opens (warm-up)
+
+    // newest counters come from the record file: only the static columns of a row are
+    // parsed when the file has the student, the CSV counters only when it does not
+    private StudentTutored parseStudent(FieldCursor c) {
+        StudentRecordFile records = studentRecords;
+        if (records == null || records.isFresh()) return StudentTutored.fromCSV(c);
+        StudentTutored s = StudentTutored.fromStaticCSV(c);
+        if (s == null || records.restore(s)) return s;
+        return s.restoreProgress(c) ? s : null;
+    }
+
+    // rows were parsed by parseStudent; then changes since the last checkpoint are replayed
+    private void fillStudents(File dir, List<StudentTutored> loaded) throws IOException {
+        students.clear();
+        for (StudentTutored s : loaded) students.add(s);
+        recommendations.clear();
+        loadWeaknesses(new File(dir, WEAKNESS_FILE), recommendations);
+        int replayed = replayJournal(new File(dir, CHECKPOINT_FILE), students, recommendations)
+                + replayJournal(new File(dir, JOURNAL_FILE), students, recommendations);
+        if (studentRecords != null && (replayed > 0 || studentRecords.isFresh())) rebuildStudentRecords();
+        clearRankings();
+        for (int i = 0; i < students.size(); i++) updateRanking(students.get(i));
+    }
+
+    private void fillTutors(List<TutorTutoring> loaded) {
+        tutors.clear();
+        tutorsBySubject.clear();
+        for (TutorTutoring t : loaded) {
+            if (tutors.add(t)) tutorsBySubject.add(t.getSubject(), t);
+        }
+    }
+
+    // lesson bodies stay in the content file until delivered
+    private void fillLessons(File dir, List<LessonTutoring> loaded) throws IOException {
+        lessons.clear();
+        lessonsBySubject.clear();
+        // rows written by one snapshot share a generation; anything older is copied forward on the next save
+        Map<Integer, LessonContentStore> stores = new HashMap<>();
+        lessonBodies = null;
+        for (LessonTutoring le : loaded) {
+            int generation = le.getContentGeneration();
+            if (generation >= 0) {
+                LessonContentStore store = stores.get(generation);
+                if (store == null) {
+                    store = LessonContentStore.open(dir, generation);
+                    stores.put(generation, store);
+                }
+                le.attachContent(store);
+                if (lessonBodies == null || generation > lessonBodies.getGeneration()) lessonBodies = store;
+            }
+            if (lessons.add(le)) lessonsBySubject.add(le.getSubject(), le);
+        }
+    }
+
+    // item statistics come from their snapshot plus the attempts journaled since
+    private void fillAssessments(File dir, List<AssessmentTutoring> loaded) throws IOException {
+        assessments.clear();
+        assessmentsBySubject.clear();
+        for (AssessmentTutoring a : loaded) {
+            if (assessments.add(a)) assessmentsBySubject.add(a.getSubject(), a);
+        }
+        ItemStatisticsTable table = loadItemStatistics(new File(dir, ITEM_STATS_FILE));
+        replayAttempts(new File(dir, CHECKPOINT_FILE), table);
+        replayAttempts(new File(dir, JOURNAL_FILE), table);
+        for (int i = 0; i < assessments.size(); i++) {
+            AssessmentTutoring a = assessments.get(i);
+            ItemStatistics saved = table.get(a.getContentIdentifierID());
+            if (saved != null) a.getItemStatistics().copyFrom(saved);
+            else a.getItemStatistics().reset();
+        }
+        attemptSeq.set(table.getLastSeq());
+    }
+
+    // one snapshot table, timed as a PersistenceEvent
+    private static boolean writeTable(File file, List<String> lines) {
+        PersistenceEvent event = PersistenceEvent.start();
+        boolean ok = CSVUtils.writeLines(file, lines);
+        if (ok) Metrics.BYTES_PERSISTED.add(file.length());
+        event.finish("save", file, lines.size(), ok);
+        return ok;
+    }
+
+    private static <T> List<T> readTable(File file, java.util.function.Function<FieldCursor, T> parser) throws IOException {
+        PersistenceEvent event = PersistenceEvent.start();
+        List<T> records = null;
+        try {
+            records = CSVUtils.readRecords(file, parser);
+            return records;
+        } finally {
+            event.finish("load", file, records == null ? 0 : records.size(), records != null);
+        }
+    }
+
+    /**
+     * Make the current content file hold every lesson body. Inline bodies (and any left in
+     * an older file) are appended; bodies already in the file are not rewritten. Once more
+     * than half of the file belongs to replaced or removed lessons, every live body is
+     * copied to a file of the next generation instead, leaving the current one untouched
+     * for the lessons.csv still on disk.
+     */
+    private boolean writeLessonBodies(File dir) {
+        try {
+            LessonContentStore current = lessonBodies;
+            List<LessonTutoring> all = new ArrayList<>(lessons.size());
+            List<LessonTutoring> missing = new ArrayList<>();
+            long live = 0;
+            for (int i = 0; i < lessons.size(); i++) {
+                LessonTutoring le = lessons.get(i);
+                all.add(le);
+                if (le.isStoredIn(current)) live += le.getContentLength();
+                else missing.add(le);
+            }
+            boolean compact = current == null || current.size() - live > live;
+            if (!compact && missing.isEmpty()) return true;
+
+            List<LessonTutoring> toWrite = compact ? all : missing;
+            int generation = compact ? (current == null ? 1 : current.getGeneration() + 1) : current.getGeneration();
+            File contentFile = LessonContentStore.fileFor(dir, generation);
+            long[][] refs = new long[toWrite.size()][];
+            try (FileChannel ch = compact
+                    ? FileChannel.open(contentFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+                    : FileChannel.open(contentFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                for (int i = 0; i < toWrite.size(); i++) refs[i] = LessonContentStore.append(ch, toWrite.get(i).getLessonContent());
+                ch.force(false);
+            }
+            // remap so the new bodies are visible; lessons already in the file move to the new mapping
+            lessonBodies = LessonContentStore.open(dir, generation);
+            if (!compact) {
+                for (int i = 0; i < lessons.size(); i++) {
+                    if (lessons.get(i).isStoredIn(current)) lessons.get(i).attachContent(lessonBodies);
+                }
+            }
+            for (int i = 0; i < toWrite.size(); i++) toWrite.get(i).attachContent(lessonBodies, refs[i][0], (int) refs[i][1]);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error writing lesson content file: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static ItemStatisticsTable loadItemStatistics(File file) throws IOException {
+        ItemStatisticsTable table = new ItemStatisticsTable();
+        for (String row : CSVUtils.readLines(file)) {
+            try {
+                table.applyRow(row);
+            } catch (RuntimeException e) {
+                // skip malformed row
+            }
+        }
+        return table;
+    }
+
+    private static void loadWeaknesses(File file, RecommendationEngine engine) throws IOException {
+        for (String row : CSVUtils.readLines(file)) {
+            try {
+                engine.applyRow(row);
+            } catch (RuntimeException e) {
+                // skip malformed row
+            }
+        }
+    }
+
+    // ---- Persistence: change journal ----
+    // Records: S,<student csv> (add/replace)  U,id,progress,avg,taken,tutorId (progress)  R,id (remove)
+    //          W,id,lessonId:misses;... (lesson misses, absolute counts)
+
+    private void openPersistence() {
+        File dir = new File(filePath);
+        if (!dir.exists()) dir.mkdirs();
+        try {
+            studentRecords = StudentRecordFile.open(new File(dir, STUDENT_RECORDS_FILE));
+        } catch (IOException e) {
+            System.err.println("Warning: student record file unavailable: " + e.getMessage());
+        }
+        try {
+            journal = new ChangeJournal(new File(dir, JOURNAL_FILE));
+            // a leftover rotated journal means a checkpoint was interrupted; finish it
+            if (new File(dir, CHECKPOINT_FILE).exists() || journal.size() >= COMPACT_THRESHOLD) scheduleCompaction();
+        } catch (IOException e) {
+            System.err.println("Warning: change journal unavailable, changes are kept only on Save: " + e.getMessage());
+        }
+    }
+
+    void shutdown() {
+        compactor.shutdown();
+        checkpointLock.lock();
+        try {
+            if (journal != null) journal.close();
+            if (studentRecords != null) studentRecords.close();
+        } catch (IOException e) {
+            System.err.println("Error closing persistence files: " + e.getMessage());
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    // Journal writes are split: journal/journalAll queue records (in the caller's lock, so
+    // records keep the order of the changes) and return a sequence number; awaitJournal
+    // then waits for the fsync outside any lock. A sequence number of 0 means nothing to wait for.
+
+    private long journal(String record) {
+        if (journal == null) return 0;
+        return journal.enqueue(record);
+    }
+
+    private long journalAll(List<String> records) {
+        if (journal == null || records.isEmpty()) return 0;
+        return journal.enqueueAll(records);
+    }
+
+    private void awaitJournal(long seq) {
+        if (seq == 0) return;
+        try {
+            journal.awaitDurable(seq);
+            if (journal.size() >= COMPACT_THRESHOLD) scheduleCompaction();
+        } catch (IOException e) {
+            System.err.println("Error writing change journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Persist a student's progress after takeAssessment, completeModule or assignStudent:
+     * an in-place write to the record file, then a durable journal record. The counter
+     * updates themselves are lock-free; only persisting is ordered per student, so each
+     * U record holds a snapshot at least as new as the one before it.
+     * @return false if nothing was recorded because the student was removed (or replaced by
+     *         a reload) after the caller looked it up
+     */
+    public boolean recordStudentProgress(StudentTutored s) {
+        long seq;
+        ReentrantLock lock = lockFor(s);
+        // the read lock keeps removeStudent out, so a removed student is never re-ranked or re-recorded
+        storeLock.readLock().lock();
+        lock.lock();
+        try {
+            if (!isStored(s)) return false;
+            updateRanking(s);
+            writeStudentRecord(s);
+            seq = journal("U," + s.getUserTutoredID() + "," + s.progressCSV());
+        } finally {
+            lock.unlock();
+            storeLock.readLock().unlock();
+        }
+        awaitJournal(seq);
+        return true;
+    }
+
+    // false once the student was removed (or replaced under the same ID) after a session looked it up
+    private boolean isStored(StudentTutored s) {
+        return students.findById(s.getUserTutoredID()) == s;
+    }
+
+    // per-student ordering of progress and weakness records, striped by ID
+    private ReentrantLock lockFor(StudentTutored s) {
+        return studentLocks[s.getUserTutoredID() & (studentLocks.length - 1)];
+    }
+
+    private static ReentrantLock[] newLocks(int n) {
+        ReentrantLock[] locks = new ReentrantLock[n];
+        for (int i = 0; i < n; i++) locks[i] = new ReentrantLock();
+        return locks;
+    }
+
+    // ---- Rankings and tutor rosters ----
+
+    private void updateRanking(StudentTutored s) {
+        int id = s.getUserTutoredID();
+        long stats = s.getScoreStats();
+        Integer tutor = s.getAssignedTutorID();
+        Integer previous = roster.update(id, tutor, stats, s.getProgressLevelOfUser());
+        leaderboard.update(id, stats);
+        // the roster knows the previous tutor, so only that board loses the entry
+        if (previous != null && !previous.equals(tutor)) {
+            Leaderboard old = tutorLeaderboards.get(previous);
+            if (old != null) old.remove(id);
+        }
+        if (tutor != null) tutorLeaderboards.computeIfAbsent(tutor, k -> new Leaderboard()).update(id, stats);
+    }
+
+    private void removeRanking(int studentId) {
+        Integer tutor = roster.remove(studentId);
+        leaderboard.remove(studentId);
+        if (tutor != null) {
+            Leaderboard board = tutorLeaderboards.get(tutor);
+            if (board != null) board.remove(studentId);
+        }
+    }
+
+    private void clearRankings() {
+        roster.clear();
+        leaderboard.clear();
+        tutorLeaderboards.clear();
+    }
+
+    /**
+     * IDs of the students assigned to a tutor, in ascending order.
+     */
+    public int[] getAssignedStudents(int tutorId) {
+        studentsReady.await();
+        int[] ids = roster.studentsOf(tutorId);
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    public TutorRoster.Summary getTutorSummary(int tutorId) {
+        studentsReady.await();
+        return roster.summary(tutorId);
+    }
+
+    public void displayTutorDashboard(TutorTutoring t, PrintStream out) {
+        studentsReady.await(); // the roster summary is built from students
+        out.println("\n=== Tutor Dashboard: " + t.getNameUser() + " ===");
+        t.displayInfo(out);
+        TutorRoster.Summary summary = roster.summary(t.getUserTutoredID());
+        out.println("Assigned students: " + summary.getStudentCount() + " (" + summary.getAssessedCount() + " assessed)");
+        out.println(String.format("Class average: %.2f/10 over %d assessment(s) | Average progress: %.1f",
+                summary.getAverageScore(), summary.getAssessmentsTaken(), summary.getAverageProgress()));
+        int[] ids = getAssignedStudents(t.getUserTutoredID());
+        if (ids.length == 0) {
+            out.println("No students assigned yet.");
+            return;
+        }
+        for (int id : ids) {
+            StudentTutored s = findStudentById(id);
+            if (s != null) displayStudentRow(s, out);
+        }
+    }
+
+    /**
+     * Leaderboard for a tutor's assigned students, or the overall one when tutorId is null.
+     */
+    public Leaderboard getLeaderboard(Integer tutorId) {
+        studentsReady.await();
+        if (tutorId == null) return leaderboard;
+        Leaderboard board = tutorLeaderboards.get(tutorId);
+        return board == null ? new Leaderboard() : board;
+    }
+
+    public void displayLeaderboard(Integer tutorId, PrintStream out) {
+        Leaderboard board = getLeaderboard(tutorId);
+        out.println("\n--- Leaderboard" + (tutorId == null ? "" : " (Tutor ID: " + tutorId + ")") + " ---");
+        int[] top = board.top(LEADERBOARD_SIZE);
+        if (top.length == 0) {
+            out.println("No ranked students yet.");
+            return;
+        }
+        for (int i = 0; i < top.length; i++) {
+            StudentTutored s = findStudentById(top[i]);
+            if (s == null) continue;
+            out.println(String.format("%2d. %-24s avg %5.2f/10 (%d assessment(s))", i + 1, s.getNameUser(),
+                    s.getAverageScoreOutOf10(), s.getAssessmentsTaken()));
+        }
+        out.println("Ranked students: " + board.size());
+    }
+
+    /**
+     * Count a graded attempt (a user's or a guest's) in its assessment's item statistics
+     * and journal it, so the statistics and the term report survive a restart.
+     */
+    public void recordItemStatistics(AssessmentTutoring a, QuizAttempt attempt) {
+        AnswerKey key = a.getAnswerKey();
+        long seq;
+        // the read lock keeps a checkpoint from snapshotting between the count and its record
+        storeLock.readLock().lock();
+        try {
+            a.getItemStatistics().record(key, attempt);
+            if (journal == null) {
+                attemptSeq.incrementAndGet();
+                seq = 0;
+            } else {
+                // numbered inside the journal's lock, so attempt numbers follow journal order
+                seq = journal.enqueue(() -> ItemStatisticsTable.record(attemptSeq.incrementAndGet(), a.getContentIdentifierID(), key, attempt));
+            }
+        } finally {
+            storeLock.readLock().unlock();
+        }
+        awaitJournal(seq);
+    }
+
+    /**
+     * Fold a graded attempt's wrong module ids into the student's weakness vector.
+     * @return false if the student is no longer stored (see recordStudentProgress)
+     */
+    public boolean recordWeaknesses(StudentTutored s, QuizAttempt attempt) {
+        long seq = 0;
+        ReentrantLock lock = lockFor(s);
+        storeLock.readLock().lock();
+        lock.lock();
+        try {
+            if (!isStored(s)) return false;
+            String row = recommendations.recordMisses(s.getUserTutoredID(), attempt.getWrongModuleIds());
+            if (row != null) seq = journal("W," + row);
+        } finally {
+            lock.unlock();
+            storeLock.readLock().unlock();
+        }
+        awaitJournal(seq);
+        return true;
+    }
+
+    // for menus whose student was removed or reloaded while they worked on it
+    private static void reportNotStored(PrintStream out, StudentTutored s) {
+        out.println("Student " + s.getUserTutoredID() + " was removed or reloaded in the meantime; this change was not saved.");
+    }
+
+    /**
+     * Lessons the student should review next, most missed first.
+     */
+    public List<LessonTutoring> reviewNext(StudentTutored s) {
+        List<LessonTutoring> out = new ArrayList<>(REVIEW_LIMIT);
+        for (int lessonId : recommendations.reviewNext(s.getUserTutoredID(), REVIEW_LIMIT)) {
+            LessonTutoring l = findLessonById(lessonId);
+            if (l != null) out.add(l);
+        }
+        return out;
+    }
+
+    public void displayStudentDashboard(StudentTutored s, PrintStream out) {
+        out.println("\n=== Dashboard: " + s.getNameUser() + " ===");
+        s.displayInfo(out);
+        s.displayProgress(SUBJECTS.size() * MODULES_PER_SUBJECT, out);
+        int rank = leaderboard.rankOf(s.getUserTutoredID());
+        if (rank > 0) {
+            String line = "Rank: #" + rank + " of " + leaderboard.size();
+            Integer tutor = s.getAssignedTutorID();
+            int tutorRank = tutor == null ? -1 : getLeaderboard(tutor).rankOf(s.getUserTutoredID());
+            if (tutorRank > 0) line += " (#" + tutorRank + " of " + getLeaderboard(tutor).size() + " with tutor " + tutor + ")";
+            out.println(line);
+        }
+        List<LessonTutoring> review = reviewNext(s);
+        if (review.isEmpty()) {
+            out.println("Review next: nothing yet. Take a quiz to get recommendations.");
+            return;
+        }
+        out.println("Review next:");
+        for (LessonTutoring l : review) {
+            out.println("  - [" + l.getContentIdentifierID() + "] " + l.getTopicLesson() + " (missed "
+                    + recommendations.getMisses(s.getUserTutoredID(), l.getContentIdentifierID()) + " question(s))");
+        }
+    }
+
+    private void writeStudentRecord(StudentTutored s) {
+        if (studentRecords == null) return;
+        try {
+            studentRecords.write(s);
+        } catch (IOException e) {
+            System.err.println("Error writing student record file: " + e.getMessage());
+        }
+    }
+
+    // rewrite the record file from the in-memory students
+    private void rebuildStudentRecords() throws IOException {
+        studentRecords.reset();
+        for (int i = 0; i < students.size(); i++) studentRecords.write(students.get(i));
+        studentRecords.force();
+    }
+
+    // records carry absolute values, so replaying the same journal twice is harmless
+    private static int replayJournal(File file, EntityStore<StudentTutored> store, RecommendationEngine engine) throws IOException {
+        PersistenceEvent event = PersistenceEvent.start();
+        List<String> records = CSVUtils.readLines(file);
+        for (String rec : records) {
+            try {
+                if (rec.startsWith("S,")) {
+                    StudentTutored s = StudentTutored.fromCSV(rec.substring(2));
+                    if (s != null) {
+                        store.removeById(s.getUserTutoredID());
+                        store.add(s);
+                    }
+                } else if (rec.startsWith("U,")) {
+                    FieldCursor c = new FieldCursor(rec);
+                    c.nextString(); // record type
+                    StudentTutored s = store.findById(c.nextInt());
+                    int progress = c.nextInt();
+                    double avg = c.nextDouble();
+                    int taken = c.nextInt();
+                    Integer tutor = c.isBlank() ? null : c.restInt();
+                    if (s != null) s.restoreProgress(progress, avg, taken, tutor);
+                } else if (rec.startsWith("W,")) {
+                    engine.applyRow(rec.substring(2));
+                } else if (rec.startsWith("R,")) {
+                    int id = Integer.parseInt(rec.substring(2).trim());
+                    store.removeById(id);
+                    engine.removeStudent(id);
+                }
+            } catch (RuntimeException e) {
+                // torn or malformed record (e.g. crash mid-append): skip it
+            }
+        }
+        event.finish("replay", file, records.size(), true);
+        return records.size();
+    }
+
+    // attempt (A) records only; the table skips those its snapshot already includes
+    private static void replayAttempts(File file, ItemStatisticsTable table) throws IOException {
+        for (String rec : CSVUtils.readLines(file)) {
+            if (!rec.startsWith("A,")) continue;
+            try {
+                table.applyRecord(rec);
+            } catch (RuntimeException e) {
+                // torn or malformed record: skip it
+            }
+        }
+    }
+
+    private void scheduleCompaction() {
+        if (compactionQueued.compareAndSet(false, true)) compactor.submit(this::compactJournal);
+    }
+
+    /**
+     * Fold the journal into students.csv in the background. Works only from disk
+     * (snapshot + rotated journal), so in-memory state is never read concurrently.
+     */
+    private void compactJournal() {
+        compactionQueued.set(false);
+        checkpointLock.lock();
+        try {
+            if (journal == null) return;
+            try {
+                File dir = new File(filePath);
+                File checkpoint = new File(dir, CHECKPOINT_FILE);
+                journal.rotateInto(checkpoint);
+                File studFile = new File(dir, "students.csv");
+                File weaknessFile = new File(dir, WEAKNESS_FILE);
+                File itemStatsFile = new File(dir, ITEM_STATS_FILE);
+                EntityStore<StudentTutored> snapshot = new EntityStore<>(StudentTutored::getUserTutoredID);
+                for (StudentTutored s : CSVUtils.readRecords(studFile, StudentTutored::fromCSV)) snapshot.add(s);
+                RecommendationEngine weaknesses = new RecommendationEngine();
+                loadWeaknesses(weaknessFile, weaknesses);
+                replayJournal(checkpoint, snapshot, weaknesses);
+                ItemStatisticsTable itemStats = loadItemStatistics(itemStatsFile);
+                replayAttempts(checkpoint, itemStats);
+                if (studentRecords != null) studentRecords.force();
+                List<String> lines = new ArrayList<>(snapshot.size());
+                for (int i = 0; i < snapshot.size(); i++) lines.add(snapshot.get(i).toCSV());
+                if (writeTable(studFile, lines) && writeTable(weaknessFile, weaknesses.toCSVLines())
+                        && writeTable(itemStatsFile, itemStats.toCSVLines())) checkpoint.delete();
+            } catch (Exception e) {
+                System.err.println("Error compacting change journal: " + e.getMessage());
+            }
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    // ---- Menu UI ----
+    private void mainMenu(Session session) {
+        PrintStream out = session.out();
+        boolean running = true;
+        while (running) {
+            out.println("\n=== Smart Learning Assistant (SLA) ===");
+            out.println("1. Manage Students");
+            out.println("2. View Tutors (predefined)");
+            out.println("3. Lessons & Modules (predefined)");
+            out.println("4. Assessments (predefined)");
+            out.println("5. Save to CSV");
+            out.println("6. Load from CSV");
+            out.println("7. Generate Term Report");
+            out.println("0. Exit");
+            out.print("Choose an option: ");
+            String choice = session.readLine();
+            if (openSubmenu(session, choice)) continue;
+            MenuActionEvent action = MenuActionEvent.start();
+            try {
+                switch (choice) {
+                    case "5":
+                        out.println(saveToCSV() ? "Saved successfully." : "Errors while saving.");
+                        break;
+                    case "6":
+                        out.println(loadFromCSV() ? "Loaded successfully." : "Errors while loading.");
+                        break;
+                    case "7": {
+                        out.print("Report file (blank = " + filePath + File.separator + REPORT_FILE + "): ");
+                        String path = session.readLine();
+                        action.inputRead();
+                        File report = path.isEmpty() ? new File(filePath, REPORT_FILE) : new File(path);
+                        if (report.getParentFile() != null) report.getParentFile().mkdirs();
+                        long start = System.nanoTime();
+                        long covered = writeReport(report);
+                        long ms = (System.nanoTime() - start) / 1_000_000;
+                        if (covered < 0) out.println("Errors while writing the report.");
+                        else out.println("Report for " + covered + " student(s) written to " + report.getPath() + " in " + ms + " ms.");
+                        break;
+                    }
+                    case "0":
+                        running = false;
+                        out.println("Goodbye.");
+                        break;
+                    default:
+                        out.println("Invalid option.");
+                }
+            } catch (Exception e) {
+                out.println("Error: " + e.getMessage());
+            } finally {
+                action.finish(session, "main", choice);
+            }
+        }
+    }
+
+    // sub-menus record their own actions, so entering one is not a main-menu event
+    private boolean openSubmenu(Session session, String choice) {
+        switch (choice) {
+            case "1":
+                studentsMenu(session);
+                return true;
+            case "2":
+                tutorsMenu(session);
+                return true;
+            case "3":
+                lessonsMenu(session);
+                return true;
+            case "4":
+                assessmentsMenu(session);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void studentsMenu(Session session) {
+        PrintStream out = session.out();
+        boolean back = false;
+        while (!back) {
+            out.println("\n--- Students ---");
+            out.println("1. Add Student");
+            out.println("2. Remove Student");
+            out.println("3. Find / List Students");
+            out.println("4. Assign Tutor to Student");
+            out.println("5. Student takes an assessment");
+            out.println("6. Student Dashboard");
+            out.println("7. Leaderboard");
+            out.println("8. Bulk Import Students from CSV");
+            out.println("0. Back");
+            out.print("Choice: ");
+            String c = session.readLine();
+            if (c.equals("3")) {
+                // the query pages record their own events
+                try {
+                    studentQueryMenu(session);
+                } catch (Exception e) {
+                    out.println("Error: " + e.getMessage());
+                }
+                continue;
+            }
+            MenuActionEvent action = MenuActionEvent.start();
+            try {
+                switch (c) {
+                    case "1":
+                        try {
+                            out.print("ID (int): ");
+                            int id = Integer.parseInt(session.readLine());
+                            action.student(id);
+                            out.print("Full Name: ");
+                            String name = session.readLine();
+                            out.print("Email: ");
+                            String email = session.readLine();
+                            out.println("Choose learning style (text/visual/auditory): ");
+                            String ls = session.readLine().trim();
+                            action.inputRead();
+                            if (!StudentTutored.LEARNING_STYLES.contains(ls.toLowerCase(Locale.ROOT))) { out.println("Unknown learning style: " + ls); break; }
+                            if (addStudent(new StudentTutored(id, name, email, ls))) out.println("Student added.");
+                            else out.println("Student ID " + id + " already exists.");
+                        } catch (Exception e) {
+                            out.println("Failed to add student: " + e.getMessage());
+                        }
+                        break;
+                    case "2":
+                        try {
+                            out.print("Enter student ID to remove: ");
+                            int rem = Integer.parseInt(session.readLine());
+                            action.student(rem);
+                            action.inputRead();
+                            boolean ok = removeStudent(rem);
+                            out.println(ok ? "Removed." : "Student not found.");
+                        } catch (Exception e) {
+                            out.println("Error: " + e.getMessage());
+                        }
+                        break;
+                    case "4":
+                        try {
+                            out.print("Student ID: ");
+                            int sid = Integer.parseInt(session.readLine());
+                            action.student(sid);
+                            StudentTutored s = findStudentById(sid);
+                            if (s == null) {
+                                out.println("Student not found.");
+                                break;
+                            }
+                            out.print("Tutor ID: ");
+                            int tid = Integer.parseInt(session.readLine());
+                            action.tutor(tid);
+                            action.inputRead();
+                            TutorTutoring t = findTutorById(tid);
+                            if (t == null) {
+                                out.println("Tutor not found.");
+                                break;
+                            }
+                            t.assignStudent(s, out);
+                            if (!recordStudentProgress(s)) reportNotStored(out, s);
+                        } catch (Exception e) {
+                            out.println("Error: " + e.getMessage());
+                        }
+                        break;
+                    case "5":
+                        try {
+                            out.print("Student ID: ");
+                            int sid2 = Integer.parseInt(session.readLine());
+                            action.student(sid2);
+                            StudentTutored st = findStudentById(sid2);
+                            if (st == null) { out.println("Student not found."); break; }
+                            out.print("Assessment ID: ");
+                            int aid = Integer.parseInt(session.readLine());
+                            action.assessment(aid);
+                            AssessmentTutoring as = findAssessmentById(aid);
+                            if (as == null) { out.println("Assessment not found."); break; }
+                            QuizAttempt attempt = as.administerQuiz(session.in(), out, session.charset());
+                            action.inputRead();
+                            recordItemStatistics(as, attempt);
+                            int score = attempt.getScore();
+                            // update
+                            st.takeAssessment(score);
+                            boolean saved = recordStudentProgress(st) && recordWeaknesses(st, attempt);
+                            // tutor feedback: if assigned tutor exists use that tutor's mapped message; else find subject tutor
+                            String tutorMsg = tutorFeedback(st, as.getSubject(), score);
+                            if (saved) out.println("Assessment recorded. Result: " + as.evaluatePerformance(score));
+                            else {
+                                reportNotStored(out, st);
+                                out.println("Result: " + as.evaluatePerformance(score));
+                            }
+                            out.println("Feedback: " + as.giveFeedback(score));
+                            if (!tutorMsg.isEmpty()) {
+                                out.println("Tutor feedback: " + tutorMsg);
+                            }
+                        } catch (Exception e) {
+                            out.println("Error recording assessment: " + e.getMessage());
+                        }
+                        break;
+                    case "6":
+                        try {
+                            out.print("Student ID: ");
+                            int sid3 = Integer.parseInt(session.readLine());
+                            action.student(sid3);
+                            action.inputRead();
+                            StudentTutored st = findStudentById(sid3);
+                            if (st == null) { out.println("Student not found."); break; }
+                            displayStudentDashboard(st, out);
+                        } catch (Exception e) {
+                            out.println("Error: " + e.getMessage());
+                        }
+                        break;
+                    case "7":
+                        try {
+                            out.print("Tutor ID (blank for overall): ");
+                            String tid = session.readLine();
+                            Integer tutorId = tid.isEmpty() ? null : Integer.valueOf(tid);
+                            if (tutorId != null) action.tutor(tutorId);
+                            action.inputRead();
+                            displayLeaderboard(tutorId, out);
+                        } catch (Exception e) {
+                            out.println("Error: " + e.getMessage());
+                        }
+                        break;
+                    case "8":
+                        try {
+                            out.print("Intake file (id,name,email,learningStyle per line): ");
+                            File in = new File(session.readLine());
+                            action.inputRead();
+                            if (!in.isFile()) { out.println("File not found."); break; }
+                            File rejects = new File(in.getPath() + ".rejects.csv");
+                            long start = System.nanoTime();
+                            StudentImporter.Batch batch = importStudents(in, rejects);
+                            long ms = (System.nanoTime() - start) / 1_000_000;
+                            out.println("Imported " + batch.getAccepted().size() + " student(s) in " + ms + " ms.");
+                            if (!batch.getRejects().isEmpty()) {
+                                out.println("Rejected " + batch.getRejects().size() + " row(s), listed in " + rejects.getPath() + ":");
+                                List<String> shown = batch.getRejects();
+                                for (int i = 0; i < Math.min(10, shown.size()); i++) out.println("  " + shown.get(i));
+                                if (shown.size() > 10) out.println("  ...");
+                            }
+                        } catch (Exception e) {
+                            out.println("Error: " + e.getMessage());
+                        }
+                        break;
+                    case "0":
+                        back = true;
+                        break;
+                    default:
+                        out.println("Invalid.");
+                }
+            } finally {
+                action.finish(session, "students", c);
+            }
+        }
+    }
+
+    private void tutorsMenu(Session session) {
+        PrintStream out = session.out();
+        boolean back = false;
+        while (!back) {
+            out.println("\n--- Tutors (predefined) ---");
+            out.println("1. List Tutors");
+            out.println("2. Tutor Dashboard");
+            out.println("0. Back");
+            out.print("Choice: ");
+            String c = session.readLine();
+            MenuActionEvent action = MenuActionEvent.start();
+            try {
+                switch (c) {
+                    case "1":
+                        displayAllTutors(out);
+                        break;
+                    case "2":
+                        try {
+                            out.print("Tutor ID: ");
+                            int tid = Integer.parseInt(session.readLine());
+                            action.tutor(tid);
+                            action.inputRead();
+                            TutorTutoring t = findTutorById(tid);
+                            if (t == null) { out.println("Tutor not found."); break; }
+                            displayTutorDashboard(t, out);
+                        } catch (Exception e) {
+                            out.println("Error: " + e.getMessage());
+                        }
+                        break;
+                    case "0":
+                        back = true;
+                        break;
+                    default:
+                        out.println("Invalid.");
+                }
+            } finally {
+                action.finish(session, "tutors", c);
+            }
+        }
+    }
+
+    private void lessonsMenu(Session session) {
+        PrintStream out = session.out();
+        boolean back = false;
+        while (!back) {
+            out.println("\n--- Lessons & Modules (predefined) ---");
+            out.println("1. List Lessons");
+            out.println("2. Open Lesson (deliver + optional quiz)");
+            out.println("0. Back");
+            out.print("Choice: ");
+            String c = session.readLine();
+            MenuActionEvent action = MenuActionEvent.start();
+            try {
+                switch (c) {
+                    case "1":
+                        displayAllLessons(out);
+                        break;
+                    case "2":
+                        try {
+                            out.print("Lesson ID to open: ");
+                            int lid = Integer.parseInt(session.readLine());
+                            action.lesson(lid);
+                            action.inputRead();
+                            LessonTutoring l = findLessonById(lid);
+                            if (l == null) { out.println("Lesson not found."); break; }
+                            l.deliverLesson(out);
+                            // allow student to take quiz and track progress
+                            out.println("Would you like to take the post-module quiz now? (y/n)");
+                            String ans = session.readLine().toLowerCase();
+                            if (ans.equals("y")) {
+                                // find assessment by subject
+                                AssessmentTutoring found = findAssessmentBySubject(l.getSubject());
+                                if (found == null) {
+                                    out.println("No assessment for this module's subject.");
+                                } else {
+                                    action.assessment(found.getContentIdentifierID());
+                                    // Ask if the taker is a registered student
+                                    out.print("Are you a registered student? (y/n): ");
+                                    String reg = session.readLine().toLowerCase();
+                                    StudentTutored student = null;
+                                    if (reg.equals("y")) {
+                                        out.print("Enter your student ID: ");
+                                        try {
+                                            int sid = Integer.parseInt(session.readLine());
+                                            action.student(sid);
+                                            student = findStudentById(sid);
+                                            if (student == null) {
+                                                out.println("Student not found. Assessment can be taken as guest but progress won't be recorded.");
+                                            }
+                                        } catch (NumberFormatException ex) {
+                                            out.println("Invalid ID input; taking as guest.");
+                                        }
+                                    }
+                                    QuizAttempt attempt = found.administerQuiz(session.in(), out, session.charset());
+                                    action.inputRead();
+                                    recordItemStatistics(found, attempt);
+                                    int score = attempt.getScore();
+                                    out.println("Result: " + found.evaluatePerformance(score));
+                                    out.println("Feedback: " + found.giveFeedback(score));
+                                    // tutor message
+                                    String tutorMsg = tutorFeedback(student, found.getSubject(), score);
+                                    if (!tutorMsg.isEmpty()) out.println("Tutor feedback: " + tutorMsg);
+                                    // update student if registered
+                                    if (student != null) {
+                                        student.takeAssessment(score);
+                                        student.completeModule(); // mark module completed when quiz taken
+                                        if (recordStudentProgress(student) && recordWeaknesses(student, attempt)) out.println("Student progress updated.");
+                                        else reportNotStored(out, student);
+                                    }
+                                }
+                            }
+                            l.setStatus(ContentStatus.COMPLETED);
+                        } catch (Exception e) {
+                            out.println("Error: " + e.getMessage());
+                        }
+                        break;
+                    case "0":
+                        back = true;
+                        break;
+                    default:
+                        out.println("Invalid.");
+                }
+            } finally {
+                action.finish(session, "lessons", c);
+            }
+        }
+    }
+
+    private void assessmentsMenu(Session session) {
+        PrintStream out = session.out();
+        boolean back = false;
+        while (!back) {
+            out.println("\n--- Assessments (predefined) ---");
+            out.println("1. List Assessments");
+            out.println("2. Take Assessment");
+            out.println("3. Batch Grade Submissions File");
+            out.println("4. Item Analysis");
+            out.println("0. Back");
+            out.print("Choice: ");
+            String c = session.readLine();
+            MenuActionEvent action = MenuActionEvent.start();
+            try {
+                switch (c) {
+                    case "1":
+                        displayAllAssessments(out);
+                        break;
+                    case "2":
+                        try {
+                            out.print("Assessment ID: ");
+                            int id = Integer.parseInt(session.readLine());
+                            action.assessment(id);
+                            AssessmentTutoring a = findAssessmentById(id);
+                            if (a == null) { out.println("Assessment not found."); break; }
+                            out.print("Are you a registered student? (y/n): ");
+                            String reg = session.readLine().toLowerCase();
+                            StudentTutored student = null;
+                            if (reg.equals("y")) {
+                                out.print("Enter your student ID: ");
+                                int sid = Integer.parseInt(session.readLine());
+                                action.student(sid);
+                                student = findStudentById(sid);
+                                if (student == null) out.println("Student not found. Taking as guest.");
+                            }
+                            QuizAttempt attempt = a.administerQuiz(session.in(), out, session.charset());
+                            action.inputRead();
+                            recordItemStatistics(a, attempt);
+                            int score = attempt.getScore();
+                            out.println("Result: " + a.evaluatePerformance(score));
+                            out.println("Feedback: " + a.giveFeedback(score));
+                            // tutor feedback
+                            String tutorMsg = tutorFeedback(student, a.getSubject(), score);
+                            if (!tutorMsg.isEmpty()) out.println("Tutor feedback: " + tutorMsg);
+                            if (student != null) {
+                                student.takeAssessment(score);
+                                if (recordStudentProgress(student) && recordWeaknesses(student, attempt)) out.println("Student progress updated.");
+                                else reportNotStored(out, student);
+                            }
+                        } catch (Exception e) {
+                            out.println("Error: " + e.getMessage());
+                        }
+                        break;
+                    case "3":
+                        try {
+                            out.print("Assessment ID: ");
+                            int id = Integer.parseInt(session.readLine());
+                            action.assessment(id);
+                            AssessmentTutoring a = findAssessmentById(id);
+                            if (a == null) { out.println("Assessment not found."); break; }
+                            out.print("Submissions file (submissionId,answers per line): ");
+                            File in = new File(session.readLine());
+                            if (!in.isFile()) { out.println("File not found."); break; }
+                            out.print("Results file: ");
+                            File results = new File(session.readLine());
+                            action.inputRead();
+                            long start = System.nanoTime();
+                            long graded = BatchGrader.gradeFile(a.getAnswerKey(), in, results);
+                            long ms = (System.nanoTime() - start) / 1_000_000;
+                            out.println("Graded " + graded + " submission(s) in " + ms + " ms. Results written to " + results.getPath());
+                        } catch (Exception e) {
+                            out.println("Error: " + e.getMessage());
+                        }
+                        break;
+                    case "4":
+                        try {
+                            out.print("Assessment ID: ");
+                            int id = Integer.parseInt(session.readLine());
+                            action.assessment(id);
+                            action.inputRead();
+                            AssessmentTutoring a = findAssessmentById(id);
+                            if (a == null) { out.println("Assessment not found."); break; }
+                            displayItemAnalysis(a, out);
+                        } catch (Exception e) {
+                            out.println("Error: " + e.getMessage());
+                        }
+                        break;
+                    case "0":
+                        back = true;
+                        break;
+                    default:
+                        out.println("Invalid.");
+                }
+            } finally {
+                action.finish(session, "assessments", c);
+            }
+        }
+    }
+}
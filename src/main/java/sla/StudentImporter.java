@@ -0,0 +1,135 @@
+package sla;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads and validates a bulk student intake file. Rows are "id,name,email,learningStyle";
+ * a header row starting with "id" is skipped. Rows are validated while they are parsed
+ * (in parallel chunks for large files): positive ID, non-empty name, plausible email and
+ * a known learning style. A second pass keeps the first row for each ID and rejects the
+ * later ones. Checking IDs against the store and inserting are left to the caller.
+ */
+public class StudentImporter {
+    /**
+     * Parse and validate every row of in.
+     */
+    public static Batch read(File in) throws IOException {
+        List<Row> rows = CSVUtils.readRecords(in, StudentImporter::parseRow);
+        Batch batch = new Batch(rows.size());
+        IdIndex seen = new IdIndex(rows.size());
+        for (Row row : rows) {
+            if (row.student == null) {
+                batch.reject(row.text, row.reason);
+            } else if (!seen.putIfAbsent(row.student.getUserTutoredID(), 0)) {
+                batch.reject(rowOf(row.student), "duplicate ID in file");
+            } else {
+                batch.accepted.add(row.student);
+            }
+        }
+        return batch;
+    }
+
+    private static Row parseRow(FieldCursor c) {
+        try {
+            String idField = c.nextString();
+            if (idField.equalsIgnoreCase("id")) return null; // header
+            int id;
+            try {
+                id = Integer.parseInt(idField);
+            } catch (NumberFormatException e) {
+                return rejected(c, "invalid ID");
+            }
+            if (id <= 0) return rejected(c, "invalid ID");
+            if (!c.hasNext()) return rejected(c, "missing fields");
+            String name = c.nextString();
+            if (name.isEmpty()) return rejected(c, "missing name");
+            if (!c.hasNext()) return rejected(c, "missing fields");
+            String email = c.nextString();
+            if (!isValidEmail(email)) return rejected(c, "invalid email");
+            if (!c.hasNext()) return rejected(c, "missing fields");
+            String style = c.rest();
+            if (!StudentTutored.LEARNING_STYLES.contains(style.toLowerCase(Locale.ROOT))) return rejected(c, "unknown learning style");
+            return new Row(new StudentTutored(id, name, email, style));
+        } catch (RuntimeException e) {
+            return rejected(c, "malformed row");
+        }
+    }
+
+    /**
+     * The intake row for an accepted student (used when rejecting it later).
+     */
+    static String rowOf(StudentTutored s) {
+        return s.getUserTutoredID() + "," + s.getNameUser() + "," + s.getEmailUser() + "," + s.getLearningStyleOfUser();
+    }
+
+    // the row text is only copied out for rejects
+    private static Row rejected(FieldCursor c, String reason) {
+        return new Row(c.record().trim(), reason);
+    }
+
+    /**
+     * One '@' with a non-empty local part, and a domain with an inner dot; no spaces.
+     */
+    static boolean isValidEmail(String email) {
+        int at = email.indexOf('@');
+        if (at <= 0 || at != email.lastIndexOf('@')) return false;
+        int dot = email.lastIndexOf('.');
+        if (dot <= at + 1 || dot == email.length() - 1) return false;
+        for (int i = 0; i < email.length(); i++) {
+            if (email.charAt(i) <= ' ') return false;
+        }
+        return true;
+    }
+
+    // a parsed row: either a student or a reject reason
+    private static final class Row {
+        final String text;
+        final StudentTutored student;
+        final String reason;
+
+        Row(StudentTutored student) {
+            this.text = null;
+            this.student = student;
+            this.reason = null;
+        }
+
+        Row(String text, String reason) {
+            this.text = text;
+            this.student = null;
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * Students that passed validation, plus "reason,original row" lines for the rest.
+     */
+    public static final class Batch {
+        private List<StudentTutored> accepted;
+        private final List<String> rejects = new ArrayList<>();
+
+        Batch(int expected) {
+            this.accepted = new ArrayList<>(expected);
+        }
+
+        void reject(String row, String reason) {
+            rejects.add(reason + "," + row);
+        }
+
+        // replace the accepted list after the caller drops rows it could not insert
+        void setAccepted(List<StudentTutored> accepted) {
+            this.accepted = accepted;
+        }
+
+        public List<StudentTutored> getAccepted() {
+            return accepted;
+        }
+
+        public List<String> getRejects() {
+            return rejects;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package sla;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.IntFunction;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+/**
+ * Filtered, sorted, cursor-paginated query over students. Filters left unset match
+ * everything. A page is produced in one pass over the store: matching rows past the
+ * cursor are kept in a bounded heap of pageSize entries (per worker when the pass runs
+ * in parallel), so nothing is fully sorted and large rosters return page 1 quickly.
+ *
+ * Cursors are keyset cursors ("sort value" + id of the last row shown), so paging stays
+ * stable while other sessions add students or change scores.
+ */
+public class StudentQuery {
+    public enum SortKey { ID, NAME, AVERAGE, PROGRESS }
+
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    private String performance;      // evaluatePerformance() label, or null
+    private boolean byLearningStyle = false;
+    private Symbol learningStyle;    // null when the style was never seen (matches no one)
+    private Integer tutorId;         // or null
+    private int minProgress = 0;
+    private int maxProgress = Integer.MAX_VALUE;
+    private SortKey sortKey = SortKey.ID;
+    private boolean descending = false;
+    private int pageSize = 20;
+
+    public StudentQuery performance(String band) {
+        this.performance = band == null || band.trim().isEmpty() ? null : band.trim();
+        return this;
+    }
+
+    public StudentQuery learningStyle(String style) {
+        this.byLearningStyle = style != null && !style.trim().isEmpty();
+        this.learningStyle = byLearningStyle ? SymbolTable.LEARNING_STYLES.lookup(style) : null;
+        return this;
+    }
+
+    public StudentQuery tutor(Integer tutorId) {
+        this.tutorId = tutorId;
+        return this;
+    }
+
+    public Integer getTutor() {
+        return tutorId;
+    }
+
+    public StudentQuery progressBetween(int min, int max) {
+        this.minProgress = min;
+        this.maxProgress = max;
+        return this;
+    }
+
+    public StudentQuery sortBy(SortKey key, boolean descending) {
+        this.sortKey = key;
+        this.descending = descending;
+        return this;
+    }
+
+    public StudentQuery pageSize(int pageSize) {
+        if (pageSize < 1) throw new IllegalArgumentException("Page size must be at least 1");
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public boolean matches(StudentTutored s) {
+        if (byLearningStyle && s.getLearningStyle() != learningStyle) return false;
+        if (tutorId != null && !tutorId.equals(s.getAssignedTutorID())) return false;
+        int progress = s.getProgressLevelOfUser();
+        if (progress < minProgress || progress > maxProgress) return false;
+        return performance == null || performance.equalsIgnoreCase(s.evaluatePerformance());
+    }
+
+    // ---- ordering and cursors ----
+
+    private Comparable<?> keyOf(StudentTutored s) {
+        switch (sortKey) {
+            case NAME:
+                return s.getNameUser().toLowerCase(Locale.ROOT);
+            case AVERAGE:
+                return s.getAverageScoreOutOf10();
+            case PROGRESS:
+                return s.getProgressLevelOfUser();
+            default:
+                return s.getUserTutoredID();
+        }
+    }
+
+    private Comparable<?> parseKey(String text) {
+        switch (sortKey) {
+            case NAME:
+                return text;
+            case AVERAGE:
+                return Double.parseDouble(text);
+            default:
+                return Integer.parseInt(text);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private int compare(Comparable a, int idA, Comparable b, int idB) {
+        int c = a.compareTo(b);
+        if (descending) c = -c;
+        return c != 0 ? c : Integer.compare(idA, idB);
+    }
+
+    private Comparator<Row> rowOrder() {
+        return (x, y) -> compare(x.key, x.student.getUserTutoredID(), y.key, y.student.getUserTutoredID());
+    }
+
+    private String cursorOf(Row row) {
+        return row.key + "|" + row.student.getUserTutoredID();
+    }
+
+    // ---- evaluation ----
+
+    /**
+     * Run the query over store positions [0, size) and return the page after cursor
+     * (null for the first page). The caller must keep the store stable during the call.
+     * Positions for which studentAt returns null are skipped.
+     */
+    public Page run(int size, IntFunction<StudentTutored> studentAt, String cursor) {
+        Comparable<?> afterKey = null;
+        int afterId = 0;
+        if (cursor != null) {
+            int bar = cursor.lastIndexOf('|');
+            if (bar < 0) throw new IllegalArgumentException("Invalid cursor");
+            afterKey = parseKey(cursor.substring(0, bar));
+            afterId = Integer.parseInt(cursor.substring(bar + 1));
+        }
+        final Comparable<?> ak = afterKey;
+        final int aid = afterId;
+        Comparator<Row> order = rowOrder();
+
+        IntStream positions = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) positions = positions.parallel();
+        TopRows top = positions.mapToObj(studentAt)
+                .filter(s -> s != null && matches(s))
+                .collect(Collector.of(() -> new TopRows(pageSize, order),
+                        (acc, s) -> acc.offer(new Row(s, keyOf(s)), ak, aid),
+                        TopRows::merge));
+
+        List<Row> rows = top.sorted();
+        List<StudentTutored> students = new ArrayList<>(rows.size());
+        for (Row r : rows) students.add(r.student);
+        boolean more = top.afterCursor > rows.size();
+        String next = more ? cursorOf(rows.get(rows.size() - 1)) : null;
+        return new Page(students, next, top.matched);
+    }
+
+    private static final class Row {
+        final StudentTutored student;
+        final Comparable<?> key;
+
+        Row(StudentTutored student, Comparable<?> key) {
+            this.student = student;
+            this.key = key;
+        }
+    }
+
+    // bounded max-heap of the best `limit` rows after the cursor, plus match counts
+    private final class TopRows {
+        final int limit;
+        final Comparator<Row> order;
+        final PriorityQueue<Row> heap;
+        long matched = 0;
+        long afterCursor = 0;
+
+        TopRows(int limit, Comparator<Row> order) {
+            this.limit = limit;
+            this.order = order;
+            this.heap = new PriorityQueue<>(limit + 1, order.reversed());
+        }
+
+        void offer(Row row, Comparable<?> afterKey, int afterId) {
+            matched++;
+            if (afterKey != null && compare(row.key, row.student.getUserTutoredID(), afterKey, afterId) <= 0) return;
+            afterCursor++;
+            add(row);
+        }
+
+        void add(Row row) {
+            if (heap.size() < limit) {
+                heap.add(row);
+            } else if (order.compare(row, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(row);
+            }
+        }
+
+        TopRows merge(TopRows other) {
+            for (Row r : other.heap) add(r);
+            matched += other.matched;
+            afterCursor += other.afterCursor;
+            return this;
+        }
+
+        List<Row> sorted() {
+            List<Row> rows = new ArrayList<>(heap);
+            rows.sort(order);
+            return rows;
+        }
+    }
+
+    /**
+     * One page of results.
+     */
+    public static final class Page {
+        private final List<StudentTutored> rows;
+        private final String nextCursor;
+        private final long matched;
+
+        Page(List<StudentTutored> rows, String nextCursor, long matched) {
+            this.rows = Collections.unmodifiableList(rows);
+            this.nextCursor = nextCursor;
+            this.matched = matched;
+        }
+
+        public List<StudentTutored> getRows() {
+            return rows;
+        }
+
+        /**
+         * Cursor for the following page, or null if this is the last one.
+         */
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
+        /**
+         * Students matching the filters (all pages).
+         */
+        public long getMatched() {
+            return matched;
+        }
+    }
+}
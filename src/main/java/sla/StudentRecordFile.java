@@ -0,0 +1,207 @@
+package sla;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Binary side file holding each student's progress counters as a fixed-width record,
+ * accessed through a MappedByteBuffer. An ID -> slot index gives the record offset,
+ * so a score update is a single in-place write. Removed records are freed and reused.
+ *
+ * Layout: 16-byte header (magic, version, slot count, reserved) followed by 32-byte
+ * records: id, flags, progress, assessmentsTaken, assignedTutorId, averageScore (double), reserved.
+ */
+public class StudentRecordFile implements Closeable {
+    private static final int MAGIC = 0x53545544; // "STUD"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = 32;
+
+    private static final int FLAG_LIVE = 1;
+    private static final int FLAG_HAS_TUTOR = 2;
+
+    // field offsets inside a record
+    private static final int OFF_ID = 0;
+    private static final int OFF_FLAGS = 4;
+    private static final int OFF_PROGRESS = 8;
+    private static final int OFF_TAKEN = 12;
+    private static final int OFF_TUTOR = 16;
+    private static final int OFF_AVG = 20;
+
+    // guards the mapping, index and free list; restore() only reads, so parallel loaders share
+    // it (a StampedLock: no per-thread hold counts to maintain on every read)
+    private final StampedLock lock = new StampedLock();
+    private final FileChannel channel;
+    private MappedByteBuffer map;
+    private int capacity;      // slots covered by the current mapping
+    private int slotCount;     // slots ever used (high-water mark)
+    private final IdIndex index = new IdIndex();
+    private int[] freeSlots = new int[16];
+    private int freeCount = 0;
+    private boolean fresh;
+
+    private StudentRecordFile(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Open (or create) the record file. If the file is missing or has an unknown
+     * format it is reset to empty and {@link #isFresh()} reports true.
+     */
+    public static StudentRecordFile open(File file) throws IOException {
+        FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        StudentRecordFile f = new StudentRecordFile(ch);
+        f.init();
+        return f;
+    }
+
+    /**
+     * True if the file was just created or reset because its format was not recognized,
+     * and has not been reset (rebuilt) since.
+     */
+    public boolean isFresh() {
+        return fresh;
+    }
+
+    private void init() throws IOException {
+        long size = channel.size();
+        int slots = size >= HEADER_SIZE ? (int) ((size - HEADER_SIZE) / RECORD_SIZE) : 0;
+        remap(Math.max(1024, slots));
+        if (size < HEADER_SIZE || map.getInt(0) != MAGIC || map.getInt(4) != VERSION) {
+            reset();
+            fresh = true;
+            return;
+        }
+        slotCount = Math.min(map.getInt(8), slots);
+        for (int slot = 0; slot < slotCount; slot++) {
+            int pos = offset(slot);
+            if ((map.getInt(pos + OFF_FLAGS) & FLAG_LIVE) != 0 && index.putIfAbsent(map.getInt(pos + OFF_ID), slot)) continue;
+            pushFree(slot);
+        }
+    }
+
+    private void remap(int slots) throws IOException {
+        capacity = slots;
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) slots * RECORD_SIZE);
+    }
+
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    private void pushFree(int slot) {
+        if (freeCount == freeSlots.length) freeSlots = java.util.Arrays.copyOf(freeSlots, freeCount * 2);
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int allocate() throws IOException {
+        if (freeCount > 0) return freeSlots[--freeCount];
+        if (slotCount == capacity) remap(capacity * 2);
+        int slot = slotCount++;
+        map.putInt(8, slotCount);
+        return slot;
+    }
+
+    /**
+     * Empty the file (header only).
+     */
+    public void reset() throws IOException {
+        long stamp = lock.writeLock();
+        try {
+            fresh = false;
+            index.clear();
+            freeCount = 0;
+            slotCount = 0;
+            map.putInt(0, MAGIC);
+            map.putInt(4, VERSION);
+            map.putInt(8, 0);
+            map.putInt(12, 0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Write the student's counters in place, allocating a record on first write.
+     */
+    public void write(StudentTutored s) throws IOException {
+        long stamp = lock.writeLock();
+        try {
+            int slot = index.get(s.getUserTutoredID());
+            if (slot == -1) {
+                slot = allocate();
+                index.put(s.getUserTutoredID(), slot);
+            }
+            int pos = offset(slot);
+            Integer tutor = s.getAssignedTutorID();
+            long stats = s.getScoreStats();
+            map.putInt(pos + OFF_ID, s.getUserTutoredID());
+            map.putInt(pos + OFF_PROGRESS, s.getProgressLevelOfUser());
+            map.putInt(pos + OFF_TAKEN, StudentTutored.takenOf(stats));
+            map.putInt(pos + OFF_TUTOR, tutor == null ? 0 : tutor);
+            map.putDouble(pos + OFF_AVG, StudentTutored.averageOf(stats));
+            map.putInt(pos + OFF_FLAGS, FLAG_LIVE | (tutor == null ? 0 : FLAG_HAS_TUTOR));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(int id) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = index.remove(id);
+            if (slot == -1) return;
+            map.putInt(offset(slot) + OFF_FLAGS, 0);
+            pushFree(slot);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copy the stored counters onto the student.
+     * @return false if the file has no record for this student
+     */
+    public boolean restore(StudentTutored s) {
+        long stamp = lock.readLock();
+        try {
+            int slot = index.get(s.getUserTutoredID());
+            if (slot == -1) return false;
+            int pos = offset(slot);
+            int flags = map.getInt(pos + OFF_FLAGS);
+            s.restoreProgress(map.getInt(pos + OFF_PROGRESS), map.getDouble(pos + OFF_AVG), map.getInt(pos + OFF_TAKEN),
+                    (flags & FLAG_HAS_TUTOR) != 0 ? Integer.valueOf(map.getInt(pos + OFF_TUTOR)) : null);
+            return true;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Flush in-place writes to disk.
+     */
+    public void force() {
+        long stamp = lock.writeLock();
+        try {
+            map.force();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        long stamp = lock.writeLock();
+        try {
+            map.force();
+            channel.close();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package sla;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Student with progress counters that can be updated from many sessions at once.
+ * Score statistics are one AtomicLong (assessments taken in the high 32 bits, sum of
+ * scores in the low 32 bits), so an assessment result is a single atomic add and the
+ * average, performance and feedback are always derived from one consistent snapshot.
+ */
+public class StudentTutored extends User {
+    // styles accepted from user input (lower case); saved files may still carry older values
+    public static final Set<String> LEARNING_STYLES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("text", "visual", "auditory")));
+
+    private static final long ONE_ASSESSMENT = 1L << 32;
+    private static final String[] PROGRESS_BARS = new String[11]; // "[###-------] " for 0..10 tenths
+
+    static {
+        for (int bars = 0; bars <= 10; bars++) {
+            StringBuilder bar = new StringBuilder("[");
+            for (int i = 0; i < bars; i++) bar.append('#');
+            for (int i = bars; i < 10; i++) bar.append('-');
+            PROGRESS_BARS[bars] = bar.append("] ").toString();
+        }
+    }
+
+    private final AtomicInteger progressLevelOfUser = new AtomicInteger(); // total modules completed
+    private final AtomicLong scoreStats = new AtomicLong(); // taken << 32 | sum of correct answers
+    private Symbol learningStyleOfUser; // interned in SymbolTable.LEARNING_STYLES
+    private volatile Integer assignedTutorID; // nullable
+
+    public StudentTutored(int userTutoredID, String nameUser, String emailUser, String learningStyleOfUser) {
+        super(userTutoredID, nameUser, Role.STUDENT, emailUser);
+        this.learningStyleOfUser = SymbolTable.LEARNING_STYLES.intern(learningStyleOfUser);
+        this.assignedTutorID = null;
+    }
+
+    public int getProgressLevelOfUser() {
+        return progressLevelOfUser.get();
+    }
+
+    public double getAverageScoreOutOf10() {
+        return averageOf(scoreStats.get());
+    }
+
+    public String getLearningStyleOfUser() {
+        return learningStyleOfUser.getName();
+    }
+
+    public Symbol getLearningStyle() {
+        return learningStyleOfUser;
+    }
+
+    public String getFeedbackOfUser() {
+        return giveFeedback();
+    }
+
+    public Integer getAssignedTutorID() {
+        return assignedTutorID;
+    }
+
+    public void setAssignedTutorID(Integer assignedTutorID) {
+        this.assignedTutorID = assignedTutorID;
+    }
+
+    public int getAssessmentsTaken() {
+        return takenOf(scoreStats.get());
+    }
+
+    /**
+     * Packed score statistics; decode one snapshot with takenOf/averageOf.
+     */
+    long getScoreStats() {
+        return scoreStats.get();
+    }
+
+    static int takenOf(long stats) {
+        return (int) (stats >>> 32);
+    }
+
+    static double averageOf(long stats) {
+        int taken = takenOf(stats);
+        return taken == 0 ? 0.0 : (double) (stats & 0xFFFFFFFFL) / taken;
+    }
+
+    /**
+     * Update student record after taking an assessment.
+     * newScore is number of correct answers (0..10)
+     */
+    public void takeAssessment(int newScore) {
+        if (newScore < 0 || newScore > 10) {
+            throw new IllegalArgumentException("Score must be between 0 and 10.");
+        }
+        scoreStats.addAndGet(ONE_ASSESSMENT + newScore);
+    }
+
+    public void completeModule() {
+        progressLevelOfUser.incrementAndGet();
+    }
+
+    /**
+     * Overwrite the progress counters with persisted values (journal replay).
+     * The average is stored as sum / taken, so the integer sum is recovered by rounding.
+     */
+    void restoreProgress(int progress, double avg, int taken, Integer tutorId) {
+        long sum = Math.max(0, Math.round(avg * taken));
+        this.progressLevelOfUser.set(progress);
+        this.scoreStats.set(((long) Math.max(0, taken) << 32) | (sum & 0xFFFFFFFFL));
+        this.assignedTutorID = tutorId;
+    }
+
+    /**
+     * Evaluate overall performance based on average correct answers out of 10.
+     */
+    public String evaluatePerformance() {
+        return evaluatePerformance(scoreStats.get());
+    }
+
+    static String evaluatePerformance(long stats) {
+        if (takenOf(stats) == 0) return "No Assessments Taken";
+        double avg = averageOf(stats);
+        if (avg >= 9) return "Excellent";
+        if (avg >= 7) return "Good";
+        if (avg >= 5) return "Average";
+        return "Needs Improvement";
+    }
+
+    /**
+     * Provide rule-based feedback string.
+     */
+    public String giveFeedback() {
+        return feedbackFor(evaluatePerformance(scoreStats.get()));
+    }
+
+    private static String feedbackFor(String perf) {
+        switch (perf) {
+            case "Excellent":
+                return "Outstanding work! Keep it up and try advanced modules.";
+            case "Good":
+                return "Good job! Review weaker areas to achieve excellence.";
+            case "Average":
+                return "You're doing okay. Spend more time practicing the lessons.";
+            case "Needs Improvement":
+                return "You should review the lessons and seek help from your tutor.";
+            default:
+                return "No assessments yet. Try a post-module quiz!";
+        }
+    }
+
+    public void displayProgress(int totalModules) {
+        displayProgress(totalModules, System.out);
+    }
+
+    public void displayProgress(int totalModules, java.io.PrintStream out) {
+        int completed = progressLevelOfUser.get();
+        long stats = scoreStats.get();
+        String perf = evaluatePerformance(stats);
+        int total = Math.max(1, totalModules); // avoid divide by zero
+        int percent = (int) Math.round((completed * 100.0) / total);
+        int bars = Math.min(10, percent / 10); // 10-char bar
+        out.println("Progress: " + PROGRESS_BARS[bars] + " " + percent + "% (" + completed + "/" + total + " modules)");
+        out.println("Average score (out of 10): " + String.format("%.2f", averageOf(stats)) + " | Assessments taken: " + takenOf(stats));
+        out.println("Overall Performance: " + perf);
+        out.println("Feedback: " + feedbackFor(perf));
+    }
+
+    @Override
+    public void displayInfo(java.io.PrintStream out) {
+        super.displayInfo(out);
+        out.println("Learning Style: " + learningStyleOfUser);
+        if (assignedTutorID != null) out.println("Assigned Tutor ID: " + assignedTutorID);
+        // totalModules must be provided by the caller when showing progress; not stored here.
+    }
+
+    // CSV export: id,name,email,learningStyle,progress,avgScore,assessmentsTaken,assignedTutorId
+    public String toCSV() {
+        return getUserTutoredID() + "," + getNameUser().replace(",", " ") + "," + getEmailUser().replace(",", " ")
+                + "," + learningStyleOfUser.getName().replace(",", ";") + "," + progressCSV();
+    }
+
+    /**
+     * progress,avgScore,assessmentsTaken,assignedTutorId from one snapshot of the counters.
+     */
+    public String progressCSV() {
+        long stats = scoreStats.get();
+        Integer tutor = assignedTutorID;
+        return progressLevelOfUser.get() + "," + averageOf(stats) + "," + takenOf(stats) + "," + (tutor == null ? "" : tutor);
+    }
+
+    // Expected order: id,name,email,learningStyle,progress,avgScore,assessmentsTaken,assignedTutorId
+    public static StudentTutored fromCSV(String csvLine) {
+        return fromCSV(new FieldCursor(csvLine));
+    }
+
+    public static StudentTutored fromCSV(FieldCursor c) {
+        StudentTutored s = fromStaticCSV(c);
+        return s != null && s.restoreProgress(c) ? s : null;
+    }
+
+    /**
+     * Only the static columns (id,name,email,learningStyle), with zero counters. The cursor is
+     * left at the progress columns, for callers that take the counters from elsewhere.
+     */
+    public static StudentTutored fromStaticCSV(FieldCursor c) {
+        try {
+            int id = c.nextInt();
+            String name = c.nextString();
+            String email = c.nextString();
+            String learningStyle = c.nextString();
+            return new StudentTutored(id, name, email, learningStyle);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Read progress,avgScore,assessmentsTaken,assignedTutorId from the cursor.
+     * @return false if the columns are missing or malformed
+     */
+    public boolean restoreProgress(FieldCursor c) {
+        try {
+            int progress = c.nextInt();
+            double avg = c.nextDouble();
+            int taken = c.nextInt();
+            restoreProgress(progress, avg, taken, c.isBlank() ? null : c.restInt());
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package sla;
+
+import java.util.*;
+
+/**
+ * Secondary index from a subject to the items for that subject.
+ * Subjects are interned Symbols, so a lookup is an identity hash probe; string
+ * lookups go through SymbolTable.SUBJECTS (case-insensitive). Items keep insertion
+ * order per subject.
+ */
+public class SubjectIndex<T> {
+    private final Map<Symbol, List<T>> bySubject = new IdentityHashMap<>();
+
+    public void add(Symbol subject, T item) {
+        bySubject.computeIfAbsent(subject, k -> new ArrayList<>(2)).add(item);
+    }
+
+    public boolean remove(Symbol subject, T item) {
+        List<T> items = bySubject.get(subject);
+        if (items == null || !items.remove(item)) return false;
+        if (items.isEmpty()) bySubject.remove(subject);
+        return true;
+    }
+
+    /**
+     * First item registered for the subject, or null.
+     */
+    public T first(Symbol subject) {
+        List<T> items = subject == null ? null : bySubject.get(subject);
+        return items == null ? null : items.get(0);
+    }
+
+    public T first(String subject) {
+        return first(SymbolTable.SUBJECTS.lookup(subject));
+    }
+
+    public List<T> all(Symbol subject) {
+        List<T> items = subject == null ? null : bySubject.get(subject);
+        return items == null ? Collections.emptyList() : Collections.unmodifiableList(items);
+    }
+
+    public List<T> all(String subject) {
+        return all(SymbolTable.SUBJECTS.lookup(subject));
+    }
+
+    public void clear() {
+        bySubject.clear();
+    }
+}
@@ -0,0 +1,32 @@
+package sla;
+
+/**
+ * Interned value from a SymbolTable (a subject or a learning style).
+ * Each distinct value has exactly one instance, so comparisons are identity
+ * or int compares on the code.
+ */
+public final class Symbol {
+    private final int code;
+    private final String name;
+
+    Symbol(int code, String name) {
+        this.code = code;
+        this.name = name;
+    }
+
+    /**
+     * Small integer code, dense per table in order of first use.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
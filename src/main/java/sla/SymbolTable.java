@@ -0,0 +1,60 @@
+package sla;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared dictionary that interns strings into Symbol flyweights with dense int codes.
+ * Values are matched trimmed and case-insensitively, so spelling variants of the same
+ * subject or style share one instance, which keeps the spelling it was first seen with.
+ * Symbols are never released: callers validate free-form input (the Add Student menu,
+ * bulk import) before interning it, while saved rows are interned as they are so a load
+ * never drops a record.
+ */
+public class SymbolTable {
+    public static final SymbolTable SUBJECTS = new SymbolTable();
+    public static final SymbolTable LEARNING_STYLES = new SymbolTable();
+
+    private final Map<String, Symbol> byName = new ConcurrentHashMap<>();
+
+    private SymbolTable() {
+    }
+
+    private static String trim(String value) {
+        return value == null ? "" : value.trim();
+    }
+
+    private static String key(String trimmed) {
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The single Symbol for value, created on first use.
+     */
+    public Symbol intern(String value) {
+        String name = trim(value);
+        String key = key(name);
+        Symbol s = byName.get(key);
+        if (s != null) return s;
+        synchronized (byName) {
+            s = byName.get(key);
+            if (s == null) {
+                s = new Symbol(byName.size(), name);
+                byName.put(key, s);
+            }
+            return s;
+        }
+    }
+
+    /**
+     * Existing Symbol for value, or null if it was never interned (does not grow the table).
+     */
+    public Symbol lookup(String value) {
+        return byName.get(key(trim(value)));
+    }
+
+    public int size() {
+        return byName.size();
+    }
+}
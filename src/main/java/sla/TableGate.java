@@ -0,0 +1,51 @@
+package sla;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Readiness flag for one table that may still be loading in the background. Gates
+ * start open; the loader closes a gate before it starts and opens it once the table is
+ * filled. await() on an open gate is a single volatile read.
+ */
+public class TableGate {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition opened = lock.newCondition();
+    private volatile boolean open = true;
+
+    public void close() {
+        lock.lock();
+        try {
+            open = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void open() {
+        lock.lock();
+        try {
+            open = true;
+            opened.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Block until the table is ready. An interrupt is remembered and re-asserted afterwards.
+     */
+    public void await() {
+        if (open) return;
+        lock.lock();
+        try {
+            while (!open) opened.awaitUninterruptibly();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
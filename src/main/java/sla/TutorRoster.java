@@ -0,0 +1,217 @@
+package sla;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse index from tutor ID to the students assigned to that tutor, with running
+ * per-tutor totals (students, assessments, score sum, progress sum). Listing a tutor's
+ * class or summarizing it costs O(class size) or O(1), never a scan of every student.
+ *
+ * Kept in step with assignments by feeding it every progress record (which carries the
+ * current tutor), every removal and every load. Members are stored densely per tutor
+ * and removed by swapping in the last entry.
+ *
+ * Locking is striped: the student -> tutor map is split into shards by student ID and
+ * each tutor's roster has its own lock, so updates for different tutors do not contend.
+ * An update holds its student's shard, then the rosters involved (always in that order).
+ * Empty rosters are kept, since tutors are few and a roster may be in use by an update.
+ */
+public class TutorRoster {
+    private static final int NONE = -1;
+    private static final int SHARDS = 16; // power of two
+
+    private final IdIndex[] tutorOf = new IdIndex[SHARDS]; // student id -> tutor id, each shard its own lock
+    private final Map<Integer, Roster> rosters = new ConcurrentHashMap<>();
+
+    public TutorRoster() {
+        for (int i = 0; i < SHARDS; i++) tutorOf[i] = new IdIndex();
+    }
+
+    private IdIndex shardOf(int studentId) {
+        return tutorOf[(studentId ^ (studentId >>> 16)) & (SHARDS - 1)];
+    }
+
+    /**
+     * Record a student's current tutor (null = unassigned) and statistics.
+     * @return the tutor the student was assigned to before, or null
+     */
+    public Integer update(int studentId, Integer tutorId, long scoreStats, int progress) {
+        IdIndex assigned = shardOf(studentId);
+        synchronized (assigned) {
+            int previous = assigned.get(studentId);
+            if (previous != NONE && (tutorId == null || previous != tutorId)) {
+                Roster old = rosters.get(previous);
+                if (old != null) old.remove(studentId);
+                assigned.remove(studentId);
+            }
+            if (tutorId != null) {
+                assigned.put(studentId, tutorId);
+                rosters.computeIfAbsent(tutorId, k -> new Roster()).set(studentId, scoreStats, progress);
+            }
+            return previous == NONE ? null : previous;
+        }
+    }
+
+    /**
+     * Drop the student.
+     * @return the tutor they were assigned to, or null
+     */
+    public Integer remove(int studentId) {
+        IdIndex assigned = shardOf(studentId);
+        synchronized (assigned) {
+            int tutorId = assigned.remove(studentId);
+            if (tutorId == NONE) return null;
+            Roster r = rosters.get(tutorId);
+            if (r != null) r.remove(studentId);
+            return tutorId;
+        }
+    }
+
+    /**
+     * Empty every roster. Not atomic with respect to concurrent updates; callers hold
+     * the store's write lock.
+     */
+    public void clear() {
+        for (IdIndex assigned : tutorOf) {
+            synchronized (assigned) {
+                assigned.clear();
+            }
+        }
+        rosters.clear();
+    }
+
+    /**
+     * Tutor the student is assigned to, or null.
+     */
+    public Integer tutorOf(int studentId) {
+        IdIndex assigned = shardOf(studentId);
+        synchronized (assigned) {
+            int tutorId = assigned.get(studentId);
+            return tutorId == NONE ? null : tutorId;
+        }
+    }
+
+    /**
+     * IDs of the tutor's students, in no particular order.
+     */
+    public int[] studentsOf(int tutorId) {
+        Roster r = rosters.get(tutorId);
+        return r == null ? new int[0] : r.ids();
+    }
+
+    public Summary summary(int tutorId) {
+        Roster r = rosters.get(tutorId);
+        return r == null ? new Summary(0, 0, 0, 0, 0) : r.summary();
+    }
+
+    // one tutor's students with their last known statistics; every method holds the roster's lock
+    private static final class Roster {
+        private final IdIndex position = new IdIndex(); // student id -> index in the arrays
+        private int[] ids = new int[8];
+        private long[] stats = new long[8];
+        private int[] progress = new int[8];
+        private int size = 0;
+        private int assessed = 0;
+        private long taken = 0;
+        private long scoreSum = 0;
+        private long progressSum = 0;
+
+        synchronized int[] ids() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        synchronized Summary summary() {
+            return new Summary(size, assessed, taken, scoreSum, progressSum);
+        }
+
+        synchronized void set(int studentId, long scoreStats, int newProgress) {
+            int p = position.get(studentId);
+            if (p == NONE) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                    stats = Arrays.copyOf(stats, size * 2);
+                    progress = Arrays.copyOf(progress, size * 2);
+                }
+                p = size++;
+                ids[p] = studentId;
+                stats[p] = 0;
+                progress[p] = 0;
+                position.put(studentId, p);
+            }
+            account(p, -1);
+            stats[p] = scoreStats;
+            progress[p] = newProgress;
+            account(p, 1);
+        }
+
+        synchronized boolean remove(int studentId) {
+            int p = position.remove(studentId);
+            if (p == NONE) return false;
+            account(p, -1);
+            int last = --size;
+            if (p != last) {
+                ids[p] = ids[last];
+                stats[p] = stats[last];
+                progress[p] = progress[last];
+                position.put(ids[p], p);
+            }
+            return true;
+        }
+
+        // add (sign 1) or take back (sign -1) one member's share of the totals
+        private void account(int p, int sign) {
+            int count = StudentTutored.takenOf(stats[p]);
+            if (count > 0) assessed += sign;
+            taken += sign * (long) count;
+            scoreSum += sign * (stats[p] & 0xFFFFFFFFL);
+            progressSum += sign * (long) progress[p];
+        }
+    }
+
+    /**
+     * Aggregate statistics for one tutor's class.
+     */
+    public static final class Summary {
+        private final int studentCount;
+        private final int assessedCount;
+        private final long assessmentsTaken;
+        private final long scoreSum;
+        private final long progressSum;
+
+        Summary(int studentCount, int assessedCount, long assessmentsTaken, long scoreSum, long progressSum) {
+            this.studentCount = studentCount;
+            this.assessedCount = assessedCount;
+            this.assessmentsTaken = assessmentsTaken;
+            this.scoreSum = scoreSum;
+            this.progressSum = progressSum;
+        }
+
+        public int getStudentCount() {
+            return studentCount;
+        }
+
+        /**
+         * Students with at least one assessment.
+         */
+        public int getAssessedCount() {
+            return assessedCount;
+        }
+
+        public long getAssessmentsTaken() {
+            return assessmentsTaken;
+        }
+
+        /**
+         * Mean score (out of 10) over every assessment the class has taken, 0 if none.
+         */
+        public double getAverageScore() {
+            return assessmentsTaken == 0 ? 0.0 : (double) scoreSum / assessmentsTaken;
+        }
+
+        public double getAverageProgress() {
+            return studentCount == 0 ? 0.0 : (double) progressSum / studentCount;
+        }
+    }
+}
@@ -1,21 +1,27 @@
+package sla;
+
 public class TutorTutoring extends User {
-    private String subjectExpertise;
+    private Symbol subjectExpertise; // interned in SymbolTable.SUBJECTS
     private String qualifications;
     private String educationLevel;
 
     public TutorTutoring(int userTutoredID, String nameUser, String emailUser, String subjectExpertise, String qualifications, String educationLevel) {
-        super(userTutoredID, nameUser, "TUTOR", emailUser);
-        this.subjectExpertise = subjectExpertise;
+        super(userTutoredID, nameUser, Role.TUTOR, emailUser);
+        this.subjectExpertise = SymbolTable.SUBJECTS.intern(subjectExpertise);
         this.qualifications = qualifications;
         this.educationLevel = educationLevel;
     }
 
     public String getSubjectExpertise() {
+        return subjectExpertise.getName();
+    }
+
+    public Symbol getSubject() {
         return subjectExpertise;
     }
 
     public void setSubjectExpertise(String subjectExpertise) {
-        this.subjectExpertise = subjectExpertise;
+        this.subjectExpertise = SymbolTable.SUBJECTS.intern(subjectExpertise);
     }
 
     public String getQualifications() {
@@ -38,12 +44,16 @@ public class TutorTutoring extends User {
      * Assign a student to this tutor. This sets student's assignedTutorID.
      */
     public void assignStudent(StudentTutored studentAssigned) {
+        assignStudent(studentAssigned, System.out);
+    }
+
+    public void assignStudent(StudentTutored studentAssigned, java.io.PrintStream out) {
         if (studentAssigned == null) {
-            System.out.println("No student provided to assign.");
+            out.println("No student provided to assign.");
             return;
         }
         studentAssigned.setAssignedTutorID(this.getUserTutoredID());
-        System.out.println("Student " + studentAssigned.getNameUser() + " assigned to tutor " + getNameUser());
+        out.println("Student " + studentAssigned.getNameUser() + " assigned to tutor " + getNameUser());
     }
 
     /**
@@ -63,10 +73,10 @@ public class TutorTutoring extends User {
     }
 
     @Override
-    public void displayInfo() {
-        super.displayInfo();
-        System.out.println("Subject Expertise: " + subjectExpertise);
-        System.out.println("Qualifications: " + qualifications + ", Education Level: " + educationLevel);
+    public void displayInfo(java.io.PrintStream out) {
+        super.displayInfo(out);
+        out.println("Subject Expertise: " + subjectExpertise);
+        out.println("Qualifications: " + qualifications + ", Education Level: " + educationLevel);
     }
 
     // CSV helpers: id,name,email,subjectExpertise,qualifications,educationLevel
@@ -76,15 +86,17 @@ public class TutorTutoring extends User {
     }
 
     public static TutorTutoring fromCSV(String line) {
-        String[] parts = line.split(",", 6);
-        if (parts.length < 6) return null;
+        return fromCSV(new FieldCursor(line));
+    }
+
+    public static TutorTutoring fromCSV(FieldCursor c) {
         try {
-            int id = Integer.parseInt(parts[0].trim());
-            String name = parts[1].trim();
-            String email = parts[2].trim();
-            String subject = parts[3].trim();
-            String quals = parts[4].trim();
-            String edu = parts[5].trim();
+            int id = c.nextInt();
+            String name = c.nextString();
+            String email = c.nextString();
+            String subject = c.nextString();
+            String quals = c.nextString();
+            String edu = c.rest();
             return new TutorTutoring(id, name, email, subject, quals, edu);
         } catch (Exception e) {
             return null;
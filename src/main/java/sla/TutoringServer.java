@@ -0,0 +1,133 @@
+package sla;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Localhost socket server: every connection gets its own Session running the normal
+ * menus (try it with "nc localhost 5050"). Sessions run on virtual threads when the
+ * JVM has them (Java 21+), otherwise on a cached pool of platform threads.
+ */
+public class TutoringServer implements Closeable {
+    public static final int DEFAULT_PORT = 5050;
+    private static final int BACKLOG = 1024;
+    private static final int DRAIN_SECONDS = 10;
+
+    private final SmartTutoringSystem app;
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed = false;
+
+    public TutoringServer(SmartTutoringSystem app, int port) throws IOException {
+        this.app = app;
+        this.serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        this.sessions = newSessionExecutor();
+    }
+
+    // looked up reflectively so the code still compiles and runs on Java 17
+    static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "session");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * Accept connections until the server is closed.
+     */
+    public void serve() {
+        System.out.println("Serving sessions on localhost:" + getPort());
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                int n = connections.incrementAndGet();
+                try {
+                    sessions.execute(() -> handle(socket, n));
+                } catch (RejectedExecutionException e) {
+                    socket.close(); // closing: accepted just before the executor stopped
+                }
+            } catch (SocketException e) {
+                if (!closed) System.err.println("Server socket error: " + e.getMessage());
+                return;
+            } catch (IOException e) {
+                System.err.println("Error accepting connection: " + e.getMessage());
+            }
+        }
+    }
+
+    private void handle(Socket socket, int n) {
+        activeSessions.incrementAndGet();
+        clients.add(socket);
+        if (closed) shutdownInput(socket); // close() may have missed it
+        try (Session session = Session.remote("client-" + n, socket.getInputStream(), socket.getOutputStream(), socket)) {
+            app.runSession(session);
+        } catch (NoSuchElementException e) {
+            // client disconnected mid-menu
+        } catch (Exception e) {
+            System.err.println("Session client-" + n + " ended with error: " + e.getMessage());
+        } finally {
+            clients.remove(socket);
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    private static void shutdownInput(Socket socket) {
+        try {
+            socket.shutdownInput();
+        } catch (IOException ignored) {
+            // already closed
+        }
+    }
+
+    /**
+     * Stop accepting connections and drain the sessions: each one's input is shut down, so
+     * it ends at its next read, while a change it is persisting (journal append, fsync)
+     * completes. Waits up to DRAIN_SECONDS before interrupting stragglers, so the caller can
+     * close the journal afterwards without failing sessions mid-write.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        sessions.shutdown();
+        for (Socket socket : clients) shutdownInput(socket);
+        try {
+            if (!sessions.awaitTermination(DRAIN_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Sessions still running after " + DRAIN_SECONDS + " s; interrupting them.");
+                sessions.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            sessions.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,19 +1,25 @@
+package sla;
+
 /**
  * Superclass representing a generic user (student or tutor).
  */
 public class User {
     private int userTutoredID;
     private String nameUser;
-    private String roleUser;
+    private Role roleUser;
     private String emailUser;
 
-    public User(int userTutoredID, String nameUser, String roleUser, String emailUser) {
+    public User(int userTutoredID, String nameUser, Role roleUser, String emailUser) {
         this.userTutoredID = userTutoredID;
         this.nameUser = nameUser;
         this.roleUser = roleUser;
         this.emailUser = emailUser;
     }
 
+    public User(int userTutoredID, String nameUser, String roleUser, String emailUser) {
+        this(userTutoredID, nameUser, Role.parse(roleUser), emailUser);
+    }
+
     public int getUserTutoredID() {
         return userTutoredID;
     }
@@ -31,11 +37,15 @@ public class User {
     }
 
     public String getRoleUser() {
+        return roleUser.name();
+    }
+
+    public Role getRole() {
         return roleUser;
     }
 
     public void setRoleUser(String roleUser) {
-        this.roleUser = roleUser;
+        this.roleUser = Role.parse(roleUser);
     }
 
     public String getEmailUser() {
@@ -47,6 +57,10 @@ public class User {
     }
 
     public void displayInfo() {
-        System.out.println("ID: " + userTutoredID + ", Name: " + nameUser + ", Role: " + roleUser + ", Email: " + emailUser);
+        displayInfo(System.out);
+    }
+
+    public void displayInfo(java.io.PrintStream out) {
+        out.println("ID: " + userTutoredID + ", Name: " + nameUser + ", Role: " + roleUser + ", Email: " + emailUser);
     }
 }